@@ -0,0 +1,177 @@
+package io.github.kale_ko.ejcl;
+
+import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A batch of changes to an {@link UnstructuredConfig}
+ * <p>
+ * Changes are only recorded here and are applied together when the batch function returns, see {@link UnstructuredConfig#batch(java.util.function.Consumer)}.
+ * If a path is set more than once the last value wins.
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ConfigBatch {
+    /**
+     * The paths that were set in order
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull List<ConfigPath> paths = new ArrayList<>();
+
+    /**
+     * The values that were set in order
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull List<ParsedPrimitive> values = new ArrayList<>();
+
+    /**
+     * Create a new ConfigBatch
+     *
+     * @since 5.1.0
+     */
+    protected ConfigBatch() {
+    }
+
+    /**
+     * Set a path
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @return This batch
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigBatch set(@NotNull String path, @Nullable Object value) {
+        return this.set(ConfigPath.of(path), value);
+    }
+
+    /**
+     * Set a path
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @return This batch
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigBatch set(@NotNull ConfigPath path, @Nullable Object value) {
+        return this.setPrimitive(path, ParsedPrimitive.from(value));
+    }
+
+    /**
+     * Set a path to an int
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @return This batch
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigBatch setInt(@NotNull String path, int value) {
+        return this.setPrimitive(ConfigPath.of(path), ParsedPrimitive.fromInteger(value));
+    }
+
+    /**
+     * Set a path to a long
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @return This batch
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigBatch setLong(@NotNull String path, long value) {
+        return this.setPrimitive(ConfigPath.of(path), ParsedPrimitive.fromLong(value));
+    }
+
+    /**
+     * Set a path to a double
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @return This batch
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigBatch setDouble(@NotNull String path, double value) {
+        return this.setPrimitive(ConfigPath.of(path), ParsedPrimitive.fromDouble(value));
+    }
+
+    /**
+     * Set a path to a boolean
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @return This batch
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigBatch setBoolean(@NotNull String path, boolean value) {
+        return this.setPrimitive(ConfigPath.of(path), ParsedPrimitive.fromBoolean(value));
+    }
+
+    /**
+     * Record a path being set to a primitive
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @return This batch
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull ConfigBatch setPrimitive(@NotNull ConfigPath path, @NotNull ParsedPrimitive value) {
+        this.paths.add(path);
+        this.values.add(value);
+        return this;
+    }
+
+    /**
+     * Get the number of changes in this batch
+     *
+     * @return The number of changes in this batch
+     *
+     * @since 5.1.0
+     */
+    public int getSize() {
+        return this.paths.size();
+    }
+
+    /**
+     * Get the path of a change
+     *
+     * @param index The index of the change
+     *
+     * @return The path of the change
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigPath getPath(int index) {
+        return this.paths.get(index);
+    }
+
+    /**
+     * Get the value of a change
+     *
+     * @param index The index of the change
+     *
+     * @return The value of the change
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ParsedPrimitive getValue(int index) {
+        return this.values.get(index);
+    }
+}
\ No newline at end of file
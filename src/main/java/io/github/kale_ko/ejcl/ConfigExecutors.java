@@ -0,0 +1,96 @@
+package io.github.kale_ko.ejcl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Contains the executors shared by all configs
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ConfigExecutors {
+    private ConfigExecutors() {
+    }
+
+    /**
+     * The number of threads created so far
+     *
+     * @since 5.1.0
+     */
+    protected static final @NotNull AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * The default executor for blocking work
+     *
+     * @since 5.1.0
+     */
+    protected static volatile @Nullable ExecutorService defaultExecutor = null;
+
+    /**
+     * The scheduler for delayed work
+     *
+     * @since 5.1.0
+     */
+    protected static volatile @Nullable ScheduledExecutorService scheduler = null;
+
+    /**
+     * Get the default executor for blocking work such as file and database access
+     * <p>
+     * The executor uses daemon threads that are created as needed and stopped after being idle
+     *
+     * @return The default executor
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ExecutorService getDefault() {
+        ExecutorService executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (ConfigExecutors.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable, "ejcl-io-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    defaultExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * Get the scheduler for delayed work such as automatic saves
+     * <p>
+     * The scheduler uses a single daemon thread
+     *
+     * @return The scheduler
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ScheduledExecutorService getScheduler() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            synchronized (ConfigExecutors.class) {
+                executor = scheduler;
+                if (executor == null) {
+                    executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "ejcl-scheduler");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduler = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+}
\ No newline at end of file
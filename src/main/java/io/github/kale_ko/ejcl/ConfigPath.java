@@ -0,0 +1,359 @@
+package io.github.kale_ko.ejcl;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A path to a value that has already been parsed into key and index segments
+ * <p>
+ * Parsing a path is done once when the ConfigPath is created instead of every time it is resolved, so a ConfigPath should be reused for paths that are accessed often.
+ * {@link #of(String)} keeps the most recently used paths, paths that are only used once should be parsed with {@link #compile(String)} so they do not evict them
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ConfigPath {
+    /**
+     * The maximum number of paths kept by {@link #of(String)}
+     *
+     * @since 5.1.0
+     */
+    protected static final int CACHE_SIZE = 4096;
+
+    /**
+     * The paths that have been parsed by {@link #of(String)}, least recently used first
+     * <p>
+     * Must be accessed while synchronized on the map
+     *
+     * @since 5.1.0
+     */
+    protected static final @NotNull Map<String, ConfigPath> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ConfigPath> eldest) {
+            return this.size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * The path this was parsed from
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull String path;
+
+    /**
+     * The key of each segment
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull String @NotNull [] keys;
+
+    /**
+     * The index of each segment or -1 if the segment is not an index
+     *
+     * @since 5.1.0
+     */
+    protected final int @NotNull [] indices;
+
+    /**
+     * Create a new ConfigPath
+     *
+     * @param path    The path this was parsed from
+     * @param keys    The key of each segment
+     * @param indices The index of each segment or -1 if the segment is not an index
+     *
+     * @since 5.1.0
+     */
+    protected ConfigPath(@NotNull String path, @NotNull String @NotNull [] keys, int @NotNull [] indices) {
+        this.path = path;
+
+        this.keys = keys;
+        this.indices = indices;
+    }
+
+    /**
+     * Get a parsed path, reusing a previously parsed one if possible
+     * <p>
+     * The {@value #CACHE_SIZE} most recently used paths are kept
+     *
+     * @param path The path to parse
+     *
+     * @return The parsed path
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ConfigPath of(@NotNull String path) {
+        ConfigPath compiled;
+        synchronized (cache) {
+            compiled = cache.get(path);
+        }
+        if (compiled != null) {
+            return compiled;
+        }
+
+        compiled = compile(path);
+
+        synchronized (cache) {
+            cache.put(path, compiled);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * Parse a path
+     * <p>
+     * Segments are separated by {@code .} and array indices are written as {@code [n]}, a {@code .} inside a key is escaped as {@code \.}
+     * <p>
+     * Any other {@code \} is part of the key, so keys that were written before escaping was parsed keep the same spelling
+     *
+     * @param path The path to parse
+     *
+     * @return The parsed path
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ConfigPath compile(@NotNull String path) {
+        int length = path.length();
+
+        String[] keys = new String[4];
+        int[] indices = new int[4];
+        int size = 0;
+
+        int start = 0;
+        StringBuilder escaped = null;
+        boolean open = true;
+
+        int i = 0;
+        while (i < length) {
+            char c = path.charAt(i);
+
+            if (c == '\\' && i + 1 < length && path.charAt(i + 1) == '.') {
+                if (escaped == null) {
+                    escaped = new StringBuilder(length);
+                }
+                escaped.append(path, start, i).append('.');
+
+                i += 2;
+                start = i;
+                open = true;
+            } else if (c == '.') {
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, size * 2);
+                    indices = Arrays.copyOf(indices, size * 2);
+                }
+                keys[size] = escaped != null ? escaped.append(path, start, i).toString() : path.substring(start, i);
+                indices[size] = -1;
+                size++;
+
+                escaped = null;
+                start = ++i;
+                open = true;
+            } else if (c == '[') {
+                int end = i + 1;
+                long index = 0;
+                while (end < length && end - i <= 10 && path.charAt(end) >= '0' && path.charAt(end) <= '9') {
+                    index = (index * 10) + (path.charAt(end) - '0');
+                    end++;
+                }
+
+                if (end > i + 1 && end < length && path.charAt(end) == ']' && index <= Integer.MAX_VALUE) {
+                    if (size + 2 > keys.length) {
+                        keys = Arrays.copyOf(keys, size * 2 + 2);
+                        indices = Arrays.copyOf(indices, size * 2 + 2);
+                    }
+
+                    if (escaped != null || start < i) {
+                        keys[size] = escaped != null ? escaped.append(path, start, i).toString() : path.substring(start, i);
+                        indices[size] = -1;
+                        size++;
+                    }
+
+                    keys[size] = path.substring(i, end + 1);
+                    indices[size] = (int) index;
+                    size++;
+
+                    escaped = null;
+                    i = end + 1;
+                    if (i < length && path.charAt(i) == '.') {
+                        i++;
+                        open = true;
+                    } else {
+                        open = false;
+                    }
+                    start = i;
+                } else {
+                    i++;
+                }
+            } else {
+                i++;
+                open = true;
+            }
+        }
+
+        if (open) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size + 1);
+                indices = Arrays.copyOf(indices, size + 1);
+            }
+            keys[size] = escaped != null ? escaped.append(path, start, length).toString() : path.substring(start, length);
+            indices[size] = -1;
+            size++;
+        }
+
+        while (size > 1 && indices[size - 1] < 0 && keys[size - 1].isEmpty()) {
+            size--;
+        }
+
+        return new ConfigPath(path, keys.length == size ? keys : Arrays.copyOf(keys, size), indices.length == size ? indices : Arrays.copyOf(indices, size));
+    }
+
+    /**
+     * Escape a key so it is parsed as a single segment
+     * <p>
+     * Only {@code .} is escaped, which is the same spelling {@link PathResolver#getKeys} has always used and what is stored as the path of MySQL rows
+     *
+     * @param key The key to escape
+     *
+     * @return The escaped key
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull String escape(@NotNull String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (c == '.') {
+                StringBuilder escaped = new StringBuilder(key.length() + 8);
+                escape(escaped, key);
+                return escaped.toString();
+            }
+        }
+
+        return key;
+    }
+
+    /**
+     * Escape a key so it is parsed as a single segment
+     *
+     * @param builder The builder to append the escaped key to
+     * @param key     The key to escape
+     *
+     * @since 5.1.0
+     */
+    protected static void escape(@NotNull StringBuilder builder, @NotNull String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (c == '.') {
+                builder.append('\\');
+            }
+            builder.append(c);
+        }
+    }
+
+    /**
+     * Get the number of segments in this path
+     *
+     * @return The number of segments in this path
+     *
+     * @since 5.1.0
+     */
+    public int getSize() {
+        return this.keys.length;
+    }
+
+    /**
+     * Get the key of a segment
+     *
+     * @param segment The segment to get
+     *
+     * @return The key of the segment
+     *
+     * @since 5.1.0
+     */
+    public @NotNull String getKey(int segment) {
+        return this.keys[segment];
+    }
+
+    /**
+     * Get if a segment is an array index
+     *
+     * @param segment The segment to check
+     *
+     * @return If the segment is an array index
+     *
+     * @since 5.1.0
+     */
+    public boolean isIndex(int segment) {
+        return this.indices[segment] >= 0;
+    }
+
+    /**
+     * Get the array index of a segment
+     *
+     * @param segment The segment to get
+     *
+     * @return The array index of the segment or -1 if the segment is not an index
+     *
+     * @since 5.1.0
+     */
+    public int getIndex(int segment) {
+        return this.indices[segment];
+    }
+
+    /**
+     * Get if this path starts with another path
+     *
+     * @param prefix The path to check
+     *
+     * @return If every segment of prefix matches the start of this path
+     *
+     * @since 5.1.0
+     */
+    public boolean startsWith(@NotNull ConfigPath prefix) {
+        if (prefix.keys.length > this.keys.length) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.keys.length; i++) {
+            if (prefix.indices[i] != this.indices[i] || !prefix.keys[i].equals(this.keys[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get the path this was parsed from
+     *
+     * @return The path this was parsed from
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public @NotNull String toString() {
+        return this.path;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ConfigPath)) {
+            return false;
+        }
+
+        ConfigPath other = (ConfigPath) obj;
+        return Arrays.equals(this.keys, other.keys) && Arrays.equals(this.indices, other.indices);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.keys);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package io.github.kale_ko.ejcl;
+
+import io.github.kale_ko.ejcl.event.ConfigListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A typed handle to a single path of an {@link UnstructuredConfig}
+ * <p>
+ * The value is resolved and converted once and then cached until the config is reloaded or the path (or one of its parents/children) is set.
+ * Reading a cached value is a single volatile read.
+ *
+ * @param <T> The type of the value
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ConfigValue<T> {
+    /**
+     * Marks that no value is cached
+     *
+     * @since 5.1.0
+     */
+    protected static final @NotNull Object UNSET = new Object();
+
+    /**
+     * The config this value is bound to
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull UnstructuredConfig config;
+
+    /**
+     * The path this value is bound to
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ConfigPath path;
+
+    /**
+     * The type of the value
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Class<T> type;
+
+    /**
+     * The cached value or {@link #UNSET}
+     *
+     * @since 5.1.0
+     */
+    protected volatile @Nullable Object value = UNSET;
+
+    /**
+     * Incremented every time the value is invalidated
+     *
+     * @since 5.1.0
+     */
+    protected int stamp = 0;
+
+    /**
+     * The listener the config calls to invalidate this value
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ConfigListener invalidator = change -> this.invalidate();
+
+    /**
+     * Create a new ConfigValue
+     *
+     * @param config The config this value is bound to
+     * @param path   The path this value is bound to
+     * @param type   The type of the value
+     *
+     * @since 5.1.0
+     */
+    protected ConfigValue(@NotNull UnstructuredConfig config, @NotNull ConfigPath path, @NotNull Class<T> type) {
+        this.config = config;
+
+        this.path = path;
+        this.type = type;
+    }
+
+    /**
+     * Get the config this value is bound to
+     *
+     * @return The config this value is bound to
+     *
+     * @since 5.1.0
+     */
+    public @NotNull UnstructuredConfig getConfig() {
+        return this.config;
+    }
+
+    /**
+     * Get the path this value is bound to
+     *
+     * @return The path this value is bound to
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ConfigPath getPath() {
+        return this.path;
+    }
+
+    /**
+     * Get the type of the value
+     *
+     * @return The type of the value
+     *
+     * @since 5.1.0
+     */
+    public @NotNull Class<T> getType() {
+        return this.type;
+    }
+
+    /**
+     * Get the value, resolving it if it is not cached
+     *
+     * @return The value
+     *
+     * @since 5.1.0
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T get() {
+        Object value = this.value;
+        if (value == UNSET) {
+            int stamp;
+            synchronized (this) {
+                stamp = this.stamp;
+            }
+
+            value = this.config.convert(this.config.get(this.path), this.type);
+
+            synchronized (this) {
+                if (this.stamp == stamp) {
+                    this.value = value;
+                }
+            }
+        }
+
+        return (T) value;
+    }
+
+    /**
+     * Get the value, resolving it if it is not cached
+     *
+     * @param defaultValue The value to return if the value is null
+     *
+     * @return The value or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public @NotNull T get(@NotNull T defaultValue) {
+        T value = this.get();
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Set the value on the config
+     *
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void set(@Nullable T value) {
+        this.config.set(this.path, value);
+    }
+
+    /**
+     * Drop the cached value so it is resolved again on the next read
+     *
+     * @since 5.1.0
+     */
+    public synchronized void invalidate() {
+        this.stamp++;
+        this.value = UNSET;
+    }
+}
\ No newline at end of file
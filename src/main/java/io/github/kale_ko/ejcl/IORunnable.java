@@ -0,0 +1,20 @@
+package io.github.kale_ko.ejcl;
+
+import java.io.IOException;
+
+/**
+ * A task that may throw an IOException
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+@FunctionalInterface
+public interface IORunnable {
+    /**
+     * Run the task
+     *
+     * @throws IOException On error
+     * @since 5.1.0
+     */
+    void run() throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,243 @@
+package io.github.kale_ko.ejcl;
+
+import io.github.kale_ko.bjsl.elements.ParsedArray;
+import io.github.kale_ko.bjsl.elements.ParsedElement;
+import io.github.kale_ko.bjsl.elements.ParsedObject;
+import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Contains methods for finding the differences between two elements
+ * <p>
+ * Both elements are walked together once and subtrees that are the same instance are skipped entirely
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ParsedDiff {
+    private ParsedDiff() {
+    }
+
+    /**
+     * A visitor that is called for every value that differs between two elements
+     * <p>
+     * Paths are in the same format as {@link PathResolver#getKeys(ParsedElement)}
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    public interface Visitor {
+        /**
+         * Called when a value exists in the new element but not in the old element
+         *
+         * @param path  The path of the value
+         * @param value The new value
+         *
+         * @since 5.1.0
+         */
+        void added(@NotNull String path, @NotNull ParsedPrimitive value);
+
+        /**
+         * Called when a value exists in the old element but not in the new element
+         *
+         * @param path     The path of the value
+         * @param oldValue The old value
+         *
+         * @since 5.1.0
+         */
+        void removed(@NotNull String path, @NotNull ParsedPrimitive oldValue);
+
+        /**
+         * Called when a value exists in both elements but is not equal
+         *
+         * @param path     The path of the value
+         * @param oldValue The old value
+         * @param newValue The new value
+         *
+         * @since 5.1.0
+         */
+        void changed(@NotNull String path, @NotNull ParsedPrimitive oldValue, @NotNull ParsedPrimitive newValue);
+    }
+
+    /**
+     * Find the differences between two elements
+     *
+     * @param oldElement The old element
+     * @param newElement The new element
+     * @param visitor    The visitor to call for every difference
+     *
+     * @since 5.1.0
+     */
+    public static void diff(@NotNull ParsedElement oldElement, @NotNull ParsedElement newElement, @NotNull Visitor visitor) {
+        diff(oldElement, newElement, visitor, null);
+    }
+
+    /**
+     * Find the differences between two elements
+     * <p>
+     * Objects and arrays that {@link ParsedHash#equal(ParsedElement, ParsedElement)} reports equal are skipped without being walked, so with a ParsedHash that is kept across diffs only the changed branches are visited
+     *
+     * @param oldElement The old element
+     * @param newElement The new element
+     * @param visitor    The visitor to call for every difference
+     * @param hashes     The hashes used to skip unchanged subtrees or null
+     *
+     * @since 5.1.0
+     */
+    public static void diff(@NotNull ParsedElement oldElement, @NotNull ParsedElement newElement, @NotNull Visitor visitor, @Nullable ParsedHash hashes) {
+        if (oldElement == newElement) {
+            return;
+        }
+
+        StringBuilder path = new StringBuilder();
+
+        if ((oldElement.isObject() && newElement.isObject()) || (oldElement.isArray() && newElement.isArray())) {
+            if (hashes != null && hashes.equal(oldElement, newElement)) {
+                return;
+            }
+
+            diffContents(oldElement, newElement, path, visitor, hashes);
+        } else if (oldElement.isPrimitive() && newElement.isPrimitive()) {
+            if (!valueEquals(oldElement.asPrimitive(), newElement.asPrimitive())) {
+                visitor.changed("", oldElement.asPrimitive(), newElement.asPrimitive());
+            }
+        } else {
+            PathResolver.walk(oldElement, path, false, (key, value) -> visitor.removed(key, value.asPrimitive()));
+            PathResolver.walk(newElement, path, false, (key, value) -> visitor.added(key, value.asPrimitive()));
+        }
+    }
+
+    /**
+     * Find the differences between the children of two objects or two arrays
+     *
+     * @param oldElement The old object or array
+     * @param newElement The new object or array
+     * @param path       The current path, this builder is reused for every value
+     * @param visitor    The visitor to call for every difference
+     * @param hashes     The hashes used to skip unchanged subtrees or null
+     *
+     * @since 5.1.0
+     */
+    protected static void diffContents(@NotNull ParsedElement oldElement, @NotNull ParsedElement newElement, @NotNull StringBuilder path, @NotNull Visitor visitor, @Nullable ParsedHash hashes) {
+        int length = path.length();
+
+        if (oldElement.isObject()) {
+            ParsedObject oldObject = oldElement.asObject();
+            ParsedObject newObject = newElement.asObject();
+
+            for (Map.Entry<String, ParsedElement> entry : newObject.getEntries()) {
+                ConfigPath.escape(path, entry.getKey());
+
+                diffChild(oldObject.has(entry.getKey()) ? oldObject.get(entry.getKey()) : null, entry.getValue(), path, visitor, hashes);
+
+                path.setLength(length);
+            }
+
+            for (Map.Entry<String, ParsedElement> entry : oldObject.getEntries()) {
+                if (!newObject.has(entry.getKey())) {
+                    ConfigPath.escape(path, entry.getKey());
+
+                    diffChild(entry.getValue(), null, path, visitor, hashes);
+
+                    path.setLength(length);
+                }
+            }
+        } else {
+            ParsedArray oldArray = oldElement.asArray();
+            ParsedArray newArray = newElement.asArray();
+
+            int size = Math.max(oldArray.getSize(), newArray.getSize());
+            for (int i = 0; i < size; i++) {
+                path.append('[').append(i).append(']');
+
+                diffChild(i < oldArray.getSize() ? oldArray.get(i) : null, i < newArray.getSize() ? newArray.get(i) : null, path, visitor, hashes);
+
+                path.setLength(length);
+            }
+        }
+    }
+
+    /**
+     * Find the differences between two children
+     *
+     * @param oldChild The old child or null if it does not exist
+     * @param newChild The new child or null if it does not exist
+     * @param path     The path of the child
+     * @param visitor  The visitor to call for every difference
+     * @param hashes   The hashes used to skip unchanged subtrees or null
+     *
+     * @since 5.1.0
+     */
+    protected static void diffChild(@Nullable ParsedElement oldChild, @Nullable ParsedElement newChild, @NotNull StringBuilder path, @NotNull Visitor visitor, @Nullable ParsedHash hashes) {
+        if (oldChild == newChild) {
+            return;
+        }
+
+        if (oldChild != null && newChild != null) {
+            if (oldChild.isPrimitive() && newChild.isPrimitive()) {
+                if (!valueEquals(oldChild.asPrimitive(), newChild.asPrimitive())) {
+                    visitor.changed(path.toString(), oldChild.asPrimitive(), newChild.asPrimitive());
+                }
+                return;
+            } else if ((oldChild.isObject() && newChild.isObject()) || (oldChild.isArray() && newChild.isArray())) {
+                if (hashes != null && hashes.equal(oldChild, newChild)) {
+                    return;
+                }
+
+                if (oldChild.isObject()) {
+                    path.append('.');
+                }
+                diffContents(oldChild, newChild, path, visitor, hashes);
+                return;
+            }
+        }
+
+        int length = path.length();
+
+        if (oldChild != null) {
+            if (oldChild.isPrimitive()) {
+                visitor.removed(path.toString(), oldChild.asPrimitive());
+            } else {
+                if (oldChild.isObject()) {
+                    path.append('.');
+                }
+                PathResolver.walk(oldChild, path, false, (key, value) -> visitor.removed(key, value.asPrimitive()));
+                path.setLength(length);
+            }
+        }
+
+        if (newChild != null) {
+            if (newChild.isPrimitive()) {
+                visitor.added(path.toString(), newChild.asPrimitive());
+            } else {
+                if (newChild.isObject()) {
+                    path.append('.');
+                }
+                PathResolver.walk(newChild, path, false, (key, value) -> visitor.added(key, value.asPrimitive()));
+                path.setLength(length);
+            }
+        }
+    }
+
+    /**
+     * Get if two primitives hold an equal value
+     *
+     * @param oldValue The old value
+     * @param newValue The new value
+     *
+     * @return If the two primitives hold an equal value
+     *
+     * @since 5.1.0
+     */
+    public static boolean valueEquals(@NotNull ParsedPrimitive oldValue, @NotNull ParsedPrimitive newValue) {
+        if (oldValue.isNull() || newValue.isNull()) {
+            return oldValue.isNull() && newValue.isNull();
+        }
+
+        Object oldValueObj = oldValue.get();
+        Object newValueObj = newValue.get();
+        return newValueObj == oldValueObj || newValueObj.equals(oldValueObj);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package io.github.kale_ko.ejcl;
+
+import io.github.kale_ko.bjsl.elements.ParsedArray;
+import io.github.kale_ko.bjsl.elements.ParsedElement;
+import io.github.kale_ko.bjsl.elements.ParsedObject;
+import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cache of structural hashes for objects and arrays
+ * <p>
+ * Two elements with equal values have the same hash, so subtrees with different hashes are known to differ.
+ * Hashes are 64 bits wide, so subtrees with matching hashes and sizes are treated as equal without being walked, see {@link #equal(ParsedElement, ParsedElement)}.
+ * Hashes are cached per instance and must be invalidated along the path of every change, which {@link PathResolver#update(ParsedElement, ConfigPath, Object, boolean, ParsedHash)} does when given a ParsedHash.
+ * After a change only the objects and arrays along its path are hashed again, the rest of the tree keeps its cached hashes.
+ * <p>
+ * This class is not thread safe
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ParsedHash {
+    /**
+     * The cached hashes of objects and arrays
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Map<ParsedElement, Long> hashes = new IdentityHashMap<>();
+
+    /**
+     * Create a new ParsedHash
+     *
+     * @since 5.1.0
+     */
+    public ParsedHash() {
+    }
+
+    /**
+     * Get the structural hash of an element
+     *
+     * @param element The element to hash
+     *
+     * @return The hash of the element
+     *
+     * @since 5.1.0
+     */
+    public long hash(@NotNull ParsedElement element) {
+        if (element.isPrimitive()) {
+            return hash(element.asPrimitive());
+        }
+
+        Long cached = this.hashes.get(element);
+        if (cached != null) {
+            return cached;
+        }
+
+        long hash;
+        if (element.isObject()) {
+            ParsedObject object = element.asObject();
+
+            hash = 0x6f626a6563740000L;
+            for (Map.Entry<String, ParsedElement> entry : object.getEntries()) {
+                hash += mix((entry.getKey().hashCode() * 0x9e3779b97f4a7c15L) ^ this.hash(entry.getValue()));
+            }
+            hash = mix(hash + object.getSize());
+        } else if (element.isArray()) {
+            ParsedArray array = element.asArray();
+
+            hash = 0x6172726179000000L;
+            for (int i = 0; i < array.getSize(); i++) {
+                hash = (hash * 31) + this.hash(array.get(i));
+            }
+            hash = mix(hash + array.getSize());
+        } else {
+            hash = 0;
+        }
+
+        this.hashes.put(element, hash);
+        return hash;
+    }
+
+    /**
+     * Get the structural hash of a primitive
+     *
+     * @param primitive The primitive to hash
+     *
+     * @return The hash of the primitive
+     *
+     * @since 5.1.0
+     */
+    public static long hash(@NotNull ParsedPrimitive primitive) {
+        Object value = primitive.get();
+
+        long hash;
+        if (value == null) {
+            hash = 0;
+        } else if (value instanceof String) {
+            String string = (String) value;
+
+            hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < string.length(); i++) {
+                hash = (hash ^ string.charAt(i)) * 0x100000001b3L;
+            }
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            hash = ((Number) value).longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            hash = Double.doubleToLongBits(((Number) value).doubleValue());
+        } else {
+            hash = value.hashCode();
+        }
+
+        return mix(hash + primitive.getType().ordinal());
+    }
+
+    /**
+     * Get if two elements hold equal values
+     * <p>
+     * Objects and arrays are compared by size and hash without walking their children, two different values hashing the same is possible but has a chance of about 2<sup>-64</sup>
+     *
+     * @param first  The first element
+     * @param second The second element
+     *
+     * @return If the two elements hold equal values
+     *
+     * @since 5.1.0
+     */
+    public boolean equal(@NotNull ParsedElement first, @NotNull ParsedElement second) {
+        if (first == second) {
+            return true;
+        }
+
+        if (first.isPrimitive() && second.isPrimitive()) {
+            return ParsedDiff.valueEquals(first.asPrimitive(), second.asPrimitive());
+        } else if (first.isObject() && second.isObject()) {
+            ParsedObject firstObject = first.asObject();
+            ParsedObject secondObject = second.asObject();
+
+            return firstObject.getSize() == secondObject.getSize() && this.hash(first) == this.hash(second);
+        } else if (first.isArray() && second.isArray()) {
+            ParsedArray firstArray = first.asArray();
+            ParsedArray secondArray = second.asArray();
+
+            return firstArray.getSize() == secondArray.getSize() && this.hash(first) == this.hash(second);
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Remove the cached hash of an element
+     *
+     * @param element The element that was changed
+     *
+     * @since 5.1.0
+     */
+    public void invalidate(@NotNull ParsedElement element) {
+        this.hashes.remove(element);
+    }
+
+    /**
+     * Remove the cached hashes of an element and all of its children
+     * <p>
+     * Used when a subtree is replaced or dropped, so the cache does not keep it alive
+     *
+     * @param element The element that was replaced
+     *
+     * @since 5.1.0
+     */
+    public void invalidateTree(@NotNull ParsedElement element) {
+        if (element.isObject()) {
+            this.hashes.remove(element);
+
+            for (Map.Entry<String, ParsedElement> entry : element.asObject().getEntries()) {
+                this.invalidateTree(entry.getValue());
+            }
+        } else if (element.isArray()) {
+            this.hashes.remove(element);
+
+            ParsedArray array = element.asArray();
+            for (int i = 0; i < array.getSize(); i++) {
+                this.invalidateTree(array.get(i));
+            }
+        }
+    }
+
+    /**
+     * Get the number of cached hashes
+     *
+     * @return The number of cached hashes
+     *
+     * @since 5.1.0
+     */
+    public int getSize() {
+        return this.hashes.size();
+    }
+
+    /**
+     * Remove all the cached hashes
+     *
+     * @since 5.1.0
+     */
+    public void clear() {
+        this.hashes.clear();
+    }
+
+    /**
+     * Spread the bits of a hash
+     *
+     * @param hash The hash to spread
+     *
+     * @return The spread hash
+     *
+     * @since 5.1.0
+     */
+    protected static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
\ No newline at end of file
@@ -5,20 +5,17 @@ import io.github.kale_ko.bjsl.elements.ParsedElement;
 import io.github.kale_ko.bjsl.elements.ParsedObject;
 import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.function.BiConsumer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Contains methods useful for getting/setting nested values
  *
- * @version 4.0.0
+ * @version 5.1.0
  * @since 1.0.0
  */
 public class PathResolver {
-    protected static final Pattern arrayPathFixPattern = Pattern.compile("\\[([0-9]*)]");
-    protected static final Pattern pathSplitPattern = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*\\.");
-
     private PathResolver() {
     }
 
@@ -33,39 +30,21 @@ public class PathResolver {
      * @since 1.0.0
      */
     public static @Nullable Object resolve(@NotNull ParsedElement element, @NotNull String path) {
-        path = arrayPathFixPattern.matcher(path).replaceAll(".[$1]");
-
-        List<String> keys = Arrays.asList(pathSplitPattern.split(path));
-
-        ParsedElement resolved = element;
-
-        for (int i = 0; i < keys.size(); i++) {
-            if (resolved.isObject()) {
-                if (resolved.asObject().has(keys.get(i))) {
-                    resolved = resolved.asObject().get(keys.get(i));
-                } else {
-                    resolved = null;
-                    break;
-                }
-            } else if (resolved.isArray()) {
-                if (keys.get(i).startsWith("[") && keys.get(i).endsWith("]")) {
-                    int index = Integer.parseInt(arrayPathFixPattern.matcher(keys.get(i)).replaceAll(".[$1]"));
+        return resolve(element, ConfigPath.of(path));
+    }
 
-                    if (index >= 0 && index < resolved.asArray().getSize()) {
-                        resolved = resolved.asArray().get(index);
-                    } else {
-                        resolved = null;
-                        break;
-                    }
-                } else {
-                    resolved = null;
-                    break;
-                }
-            } else {
-                resolved = null;
-                break;
-            }
-        }
+    /**
+     * Resolve a value on an element
+     *
+     * @param element The element to resolve on
+     * @param path    The path to resolve to
+     *
+     * @return The value resolved
+     *
+     * @since 5.1.0
+     */
+    public static @Nullable Object resolve(@NotNull ParsedElement element, @NotNull ConfigPath path) {
+        ParsedElement resolved = resolveElement(element, path);
 
         if (resolved != null && resolved.isPrimitive()) {
             return resolved.asPrimitive().get();
@@ -85,25 +64,35 @@ public class PathResolver {
      * @since 1.0.0
      */
     public static @Nullable ParsedElement resolveElement(@NotNull ParsedElement element, @NotNull String path) {
-        path = arrayPathFixPattern.matcher(path).replaceAll(".[$1]");
-
-        List<String> keys = Arrays.asList(pathSplitPattern.split(path));
+        return resolveElement(element, ConfigPath.of(path));
+    }
 
+    /**
+     * Resolve an element on an element
+     *
+     * @param element The element to resolve on
+     * @param path    The path to resolve to
+     *
+     * @return The value resolved
+     *
+     * @since 5.1.0
+     */
+    public static @Nullable ParsedElement resolveElement(@NotNull ParsedElement element, @NotNull ConfigPath path) {
         ParsedElement resolved = element;
 
-        for (int i = 0; i < keys.size(); i++) {
+        for (int i = 0; i < path.getSize(); i++) {
             if (resolved.isObject()) {
-                if (resolved.asObject().has(keys.get(i))) {
-                    resolved = resolved.asObject().get(keys.get(i));
+                if (resolved.asObject().has(path.getKey(i))) {
+                    resolved = resolved.asObject().get(path.getKey(i));
                 } else {
                     resolved = null;
                     break;
                 }
             } else if (resolved.isArray()) {
-                if (keys.get(i).startsWith("[") && keys.get(i).endsWith("]")) {
-                    int index = Integer.parseInt(arrayPathFixPattern.matcher(keys.get(i)).replaceAll(".[$1]"));
+                if (path.isIndex(i)) {
+                    int index = path.getIndex(i);
 
-                    if (index >= 0 && index < resolved.asArray().getSize()) {
+                    if (index < resolved.asArray().getSize()) {
                         resolved = resolved.asArray().get(index);
                     } else {
                         resolved = null;
@@ -122,6 +111,202 @@ public class PathResolver {
         return resolved;
     }
 
+    /**
+     * Resolve many values on an element in one traversal
+     * <p>
+     * Paths that share a prefix only walk that prefix once
+     *
+     * @param element The element to resolve on
+     * @param paths   The paths to resolve to
+     *
+     * @return The values resolved by path
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull Map<String, Object> resolveAll(@NotNull ParsedElement element, @NotNull Collection<String> paths) {
+        ConfigPath[] compiled = new ConfigPath[paths.size()];
+
+        int i = 0;
+        for (String path : paths) {
+            compiled[i++] = ConfigPath.of(path);
+        }
+
+        Object[] values = resolveAll(element, compiled);
+
+        Map<String, Object> resolved = new LinkedHashMap<>(values.length * 2);
+        for (i = 0; i < values.length; i++) {
+            resolved.put(compiled[i].toString(), values[i]);
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolve many values on an element in one traversal
+     * <p>
+     * Paths that share a prefix only walk that prefix once
+     *
+     * @param element The element to resolve on
+     * @param paths   The paths to resolve to
+     *
+     * @return The values resolved in the same order as the paths
+     *
+     * @since 5.1.0
+     */
+    public static @Nullable Object @NotNull [] resolveAll(@NotNull ParsedElement element, @NotNull ConfigPath @NotNull ... paths) {
+        ParsedElement[] elements = resolveAllElements(element, paths);
+
+        Object[] resolved = new Object[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] != null && elements[i].isPrimitive()) {
+                resolved[i] = elements[i].asPrimitive().get();
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolve many elements on an element in one traversal
+     * <p>
+     * Paths that share a prefix only walk that prefix once
+     *
+     * @param element The element to resolve on
+     * @param paths   The paths to resolve to
+     *
+     * @return The elements resolved in the same order as the paths
+     *
+     * @since 5.1.0
+     */
+    public static @Nullable ParsedElement @NotNull [] resolveAllElements(@NotNull ParsedElement element, @NotNull ConfigPath @NotNull ... paths) {
+        PathNode root = new PathNode(null, -1);
+
+        for (int i = 0; i < paths.length; i++) {
+            PathNode node = root;
+            for (int j = 0; j < paths[i].getSize(); j++) {
+                node = node.child(paths[i].getKey(j), paths[i].getIndex(j));
+            }
+            node.addTarget(i);
+        }
+
+        ParsedElement[] resolved = new ParsedElement[paths.length];
+        root.resolve(element, resolved);
+        return resolved;
+    }
+
+    /**
+     * A node in a trie of paths being resolved together
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    protected static class PathNode {
+        /**
+         * The key of this segment
+         *
+         * @since 5.1.0
+         */
+        protected final @Nullable String key;
+
+        /**
+         * The index of this segment or -1 if the segment is not an index
+         *
+         * @since 5.1.0
+         */
+        protected final int index;
+
+        /**
+         * The nodes of the next segments
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull List<PathNode> children = new ArrayList<>(2);
+
+        /**
+         * The positions of the paths that end at this node
+         *
+         * @since 5.1.0
+         */
+        protected int @NotNull [] targets = new int[0];
+
+        /**
+         * Create a new PathNode
+         *
+         * @param key   The key of this segment
+         * @param index The index of this segment or -1 if the segment is not an index
+         *
+         * @since 5.1.0
+         */
+        protected PathNode(@Nullable String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+
+        /**
+         * Get or create the node of a next segment
+         *
+         * @param key   The key of the segment
+         * @param index The index of the segment or -1 if the segment is not an index
+         *
+         * @return The node of the segment
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull PathNode child(@NotNull String key, int index) {
+            for (PathNode child : this.children) {
+                if (child.index == index && key.equals(child.key)) {
+                    return child;
+                }
+            }
+
+            PathNode child = new PathNode(key, index);
+            this.children.add(child);
+            return child;
+        }
+
+        /**
+         * Add the position of a path that ends at this node
+         *
+         * @param target The position of the path
+         *
+         * @since 5.1.0
+         */
+        protected void addTarget(int target) {
+            this.targets = Arrays.copyOf(this.targets, this.targets.length + 1);
+            this.targets[this.targets.length - 1] = target;
+        }
+
+        /**
+         * Resolve this node and all the nodes under it
+         *
+         * @param element  The element this node resolved to
+         * @param resolved The elements resolved by position
+         *
+         * @since 5.1.0
+         */
+        protected void resolve(@NotNull ParsedElement element, @Nullable ParsedElement @NotNull [] resolved) {
+            for (int target : this.targets) {
+                resolved[target] = element;
+            }
+
+            for (PathNode child : this.children) {
+                ParsedElement next = null;
+
+                if (element.isObject()) {
+                    if (element.asObject().has(child.key)) {
+                        next = element.asObject().get(child.key);
+                    }
+                } else if (element.isArray()) {
+                    if (child.index >= 0 && child.index < element.asArray().getSize()) {
+                        next = element.asArray().get(child.index);
+                    }
+                }
+
+                if (next != null) {
+                    child.resolve(next, resolved);
+                }
+            }
+        }
+    }
+
     /**
      * Update a value on an element
      *
@@ -134,7 +319,7 @@ public class PathResolver {
      * @since 1.0.0
      */
     public static @NotNull ParsedElement update(@NotNull ParsedElement element, @NotNull String path, @Nullable Object value) {
-        return update(element, path, value, true);
+        return update(element, ConfigPath.of(path), value, true);
     }
 
     /**
@@ -150,86 +335,96 @@ public class PathResolver {
      * @since 1.0.0
      */
     public static @NotNull ParsedElement update(@NotNull ParsedElement element, @NotNull String path, @Nullable Object value, boolean force) {
-        path = arrayPathFixPattern.matcher(path).replaceAll(".[$1]");
-
-        List<String> keys = Arrays.asList(pathSplitPattern.split(path));
-
-        ParsedElement resolved = element;
+        return update(element, ConfigPath.of(path), value, force);
+    }
 
-        for (int i = 0; i < keys.size() - 1; i++) {
-            if (resolved.isObject()) {
-                if (resolved.asObject().has(keys.get(i))) {
-                    resolved = resolved.asObject().get(keys.get(i));
-                } else {
-                    if (force) {
-                        if (keys.get(i + 1).startsWith("[") && keys.get(i + 1).endsWith("]")) {
-                            resolved.asObject().set(keys.get(i), ParsedArray.create());
-                        } else if (keys.size() > i + 1) {
-                            resolved.asObject().set(keys.get(i), ParsedObject.create());
-                        } else {
-                            resolved.asObject().set(keys.get(i), ParsedPrimitive.fromNull());
-                        }
+    /**
+     * Update a value on an element
+     *
+     * @param element The element to update on
+     * @param path    The path to update
+     * @param value   The value to update to
+     *
+     * @return element for chaining
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ParsedElement update(@NotNull ParsedElement element, @NotNull ConfigPath path, @Nullable Object value) {
+        return update(element, path, value, true);
+    }
 
-                        resolved = resolved.asObject().get(keys.get(i));
-                    } else {
-                        resolved = null;
-                        break;
-                    }
-                }
-            } else if (resolved.isArray()) {
-                if (keys.get(i).startsWith("[") && keys.get(i).endsWith("]")) {
-                    int index = Integer.parseInt(arrayPathFixPattern.matcher(keys.get(i)).replaceAll(".[$1]"));
+    /**
+     * Update a value on an element
+     *
+     * @param element The element to update on
+     * @param path    The path to update
+     * @param value   The value to update to
+     * @param force   If the value should be force set (Create objects/arrays that don't exist)
+     *
+     * @return element for chaining
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ParsedElement update(@NotNull ParsedElement element, @NotNull ConfigPath path, @Nullable Object value, boolean force) {
+        return update(element, path, value, force, null);
+    }
 
-                    if (index >= 0 && index < resolved.asArray().getSize()) {
-                        resolved = resolved.asArray().get(index);
-                    } else {
-                        if (force) {
-                            while (resolved.asArray().getSize() <= index) {
-                                if (keys.get(i + 1).startsWith("[") && keys.get(i + 1).endsWith("]")) {
-                                    resolved.asArray().add(ParsedArray.create());
-                                } else if (keys.size() > i + 1) {
-                                    resolved.asArray().add(ParsedObject.create());
-                                } else {
-                                    resolved.asArray().add(ParsedPrimitive.fromNull());
-                                }
-                            }
+    /**
+     * Update a value on an element
+     *
+     * @param element The element to update on
+     * @param path    The path to update
+     * @param value   The value to update to
+     * @param force   If the value should be force set (Create objects/arrays that don't exist)
+     * @param hashes  The hashes to invalidate along the path or null
+     *
+     * @return element for chaining
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ParsedElement update(@NotNull ParsedElement element, @NotNull ConfigPath path, @Nullable Object value, boolean force, @Nullable ParsedHash hashes) {
+        return updatePrimitive(element, path, ParsedPrimitive.from(value), force, hashes);
+    }
 
-                            resolved = resolved.asArray().get(index);
-                        } else {
-                            resolved = null;
-                            break;
-                        }
-                    }
-                } else {
-                    resolved = null;
-                    break;
-                }
-            } else {
-                resolved = null;
-                break;
-            }
-        }
+    /**
+     * Update a value on an element
+     * <p>
+     * Unlike {@link #update(ParsedElement, ConfigPath, Object, boolean, ParsedHash)} the value is already a primitive so its type does not need to be detected
+     *
+     * @param element The element to update on
+     * @param path    The path to update
+     * @param value   The value to update to
+     * @param force   If the value should be force set (Create objects/arrays that don't exist)
+     * @param hashes  The hashes to invalidate along the path or null
+     *
+     * @return element for chaining
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ParsedElement updatePrimitive(@NotNull ParsedElement element, @NotNull ConfigPath path, @NotNull ParsedPrimitive value, boolean force, @Nullable ParsedHash hashes) {
+        ParsedElement resolved = resolveParent(element, path, force, hashes);
 
-        String valueKey = keys.get(keys.size() - 1);
+        int last = path.getSize() - 1;
+        String valueKey = path.getKey(last);
 
         if (resolved != null) {
             if (resolved.isObject()) {
                 if (resolved.asObject().has(valueKey)) {
                     if (resolved.asObject().get(valueKey).isPrimitive()) {
-                        resolved.asObject().set(valueKey, ParsedPrimitive.from(value));
+                        resolved.asObject().set(valueKey, value);
                     }
                 } else {
-                    resolved.asObject().set(valueKey, ParsedPrimitive.from(value));
+                    resolved.asObject().set(valueKey, value);
                 }
-            } else if (resolved.isArray() && (valueKey.startsWith("[") && valueKey.endsWith("]"))) {
-                int resolvedValueKey = Integer.parseInt(arrayPathFixPattern.matcher(valueKey).replaceAll(".[$1]"));
+            } else if (resolved.isArray() && path.isIndex(last)) {
+                int resolvedValueKey = path.getIndex(last);
 
-                if (resolvedValueKey >= 0 && resolvedValueKey < resolved.asArray().getSize()) {
+                if (resolvedValueKey < resolved.asArray().getSize()) {
                     if (resolved.asArray().get(resolvedValueKey).isPrimitive()) {
-                        resolved.asArray().set(resolvedValueKey, ParsedPrimitive.from(value));
+                        resolved.asArray().set(resolvedValueKey, value);
                     }
                 } else {
-                    resolved.asArray().add(ParsedPrimitive.from(value));
+                    resolved.asArray().add(value);
                 }
             }
         }
@@ -249,7 +444,7 @@ public class PathResolver {
      * @since 1.0.0
      */
     public static @NotNull ParsedElement updateElement(@NotNull ParsedElement element, @NotNull String path, @NotNull ParsedElement value) {
-        return updateElement(element, path, value, true);
+        return updateElement(element, ConfigPath.of(path), value, true);
     }
 
     /**
@@ -265,47 +460,134 @@ public class PathResolver {
      * @since 1.0.0
      */
     public static @NotNull ParsedElement updateElement(@NotNull ParsedElement element, @NotNull String path, @NotNull ParsedElement value, boolean force) {
-        path = arrayPathFixPattern.matcher(path).replaceAll(".[$1]");
+        return updateElement(element, ConfigPath.of(path), value, force);
+    }
+
+    /**
+     * Update an element on an element
+     *
+     * @param element The element to update on
+     * @param path    The path to update
+     * @param value   The value to update to
+     *
+     * @return element for chaining
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ParsedElement updateElement(@NotNull ParsedElement element, @NotNull ConfigPath path, @NotNull ParsedElement value) {
+        return updateElement(element, path, value, true);
+    }
+
+    /**
+     * Update an element on an element
+     *
+     * @param element The element to update on
+     * @param path    The path to update
+     * @param value   The value to update to
+     * @param force   If the value should be force set (Create objects/arrays that don't exist)
+     *
+     * @return element for chaining
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ParsedElement updateElement(@NotNull ParsedElement element, @NotNull ConfigPath path, @NotNull ParsedElement value, boolean force) {
+        return updateElement(element, path, value, force, null);
+    }
+
+    /**
+     * Update an element on an element
+     *
+     * @param element The element to update on
+     * @param path    The path to update
+     * @param value   The value to update to
+     * @param force   If the value should be force set (Create objects/arrays that don't exist)
+     * @param hashes  The hashes to invalidate along the path or null
+     *
+     * @return element for chaining
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull ParsedElement updateElement(@NotNull ParsedElement element, @NotNull ConfigPath path, @NotNull ParsedElement value, boolean force, @Nullable ParsedHash hashes) {
+        ParsedElement resolved = resolveParent(element, path, force, hashes);
+
+        int last = path.getSize() - 1;
+        String valueKey = path.getKey(last);
+
+        if (resolved != null) {
+            if (resolved.isObject()) {
+                if (hashes != null && resolved.asObject().has(valueKey)) {
+                    hashes.invalidateTree(resolved.asObject().get(valueKey));
+                }
+
+                resolved.asObject().set(valueKey, value);
+            } else if (resolved.isArray() && path.isIndex(last)) {
+                int resolvedValueKey = path.getIndex(last);
+
+                if (resolvedValueKey < resolved.asArray().getSize()) {
+                    if (hashes != null) {
+                        hashes.invalidateTree(resolved.asArray().get(resolvedValueKey));
+                    }
+
+                    resolved.asArray().set(resolvedValueKey, value);
+                } else {
+                    resolved.asArray().add(value);
+                }
+            }
+        }
 
-        List<String> keys = Arrays.asList(pathSplitPattern.split(path));
+        return element;
+    }
 
+    /**
+     * Resolve the parent of the last segment of a path
+     *
+     * @param element The element to resolve on
+     * @param path    The path to resolve the parent of
+     * @param force   If objects/arrays that don't exist should be created
+     * @param hashes  The hashes to invalidate along the path or null
+     *
+     * @return The parent resolved or null
+     *
+     * @since 5.1.0
+     */
+    protected static @Nullable ParsedElement resolveParent(@NotNull ParsedElement element, @NotNull ConfigPath path, boolean force, @Nullable ParsedHash hashes) {
         ParsedElement resolved = element;
 
-        for (int i = 0; i < keys.size() - 1; i++) {
+        for (int i = 0; i < path.getSize() - 1; i++) {
+            if (hashes != null) {
+                hashes.invalidate(resolved);
+            }
+
             if (resolved.isObject()) {
-                if (resolved.asObject().has(keys.get(i))) {
-                    resolved = resolved.asObject().get(keys.get(i));
+                if (resolved.asObject().has(path.getKey(i))) {
+                    resolved = resolved.asObject().get(path.getKey(i));
                 } else {
                     if (force) {
-                        if (keys.get(i + 1).startsWith("[") && keys.get(i + 1).endsWith("]")) {
-                            resolved.asObject().set(keys.get(i), ParsedArray.create());
-                        } else if (keys.size() > i + 1) {
-                            resolved.asObject().set(keys.get(i), ParsedObject.create());
+                        if (path.isIndex(i + 1)) {
+                            resolved.asObject().set(path.getKey(i), ParsedArray.create());
                         } else {
-                            resolved.asObject().set(keys.get(i), ParsedPrimitive.fromNull());
+                            resolved.asObject().set(path.getKey(i), ParsedObject.create());
                         }
 
-                        resolved = resolved.asObject().get(keys.get(i));
+                        resolved = resolved.asObject().get(path.getKey(i));
                     } else {
                         resolved = null;
                         break;
                     }
                 }
             } else if (resolved.isArray()) {
-                if (keys.get(i).startsWith("[") && keys.get(i).endsWith("]")) {
-                    int index = Integer.parseInt(arrayPathFixPattern.matcher(keys.get(i)).replaceAll(".[$1]"));
+                if (path.isIndex(i)) {
+                    int index = path.getIndex(i);
 
-                    if (index >= 0 && index < resolved.asArray().getSize()) {
+                    if (index < resolved.asArray().getSize()) {
                         resolved = resolved.asArray().get(index);
                     } else {
                         if (force) {
                             while (resolved.asArray().getSize() <= index) {
-                                if (keys.get(i + 1).startsWith("[") && keys.get(i + 1).endsWith("]")) {
+                                if (path.isIndex(i + 1)) {
                                     resolved.asArray().add(ParsedArray.create());
-                                } else if (keys.size() > i + 1) {
-                                    resolved.asArray().add(ParsedObject.create());
                                 } else {
-                                    resolved.asArray().add(ParsedPrimitive.fromNull());
+                                    resolved.asArray().add(ParsedObject.create());
                                 }
                             }
 
@@ -325,24 +607,11 @@ public class PathResolver {
             }
         }
 
-        String valueKey = keys.get(keys.size() - 1);
-
-        if (resolved != null) {
-            if (resolved.isObject()) {
-                resolved.asObject().set(valueKey, value);
-            } else if (resolved.isArray() && (valueKey.startsWith("[") && valueKey.endsWith("]"))) {
-                int resolvedValueKey = Integer.parseInt(arrayPathFixPattern.matcher(valueKey).replaceAll(".[$1]"));
-
-                if (resolvedValueKey >= 0 && resolvedValueKey < resolved.asArray().getSize()) {
-                    resolved.asArray().set(resolvedValueKey, value);
-                } else {
-                    resolved.asArray().add(value);
-                }
-
-            }
+        if (hashes != null && resolved != null) {
+            hashes.invalidate(resolved);
         }
 
-        return element;
+        return resolved;
     }
 
     /**
@@ -386,44 +655,88 @@ public class PathResolver {
     protected static @NotNull Set<String> getKeys(@NotNull ParsedElement element, @NotNull String path, boolean returnObjArrKeys) {
         Set<String> keys = new HashSet<>();
 
+        walk(element, new StringBuilder(path), returnObjArrKeys, (key, value) -> keys.add(key));
+
+        return keys;
+    }
+
+    /**
+     * Walk all the primitive values in an element
+     * <p>
+     * The visitor is given the path of each value in the same format as {@link #getKeys(ParsedElement)}
+     *
+     * @param element The element to walk
+     * @param visitor The visitor to call for each value
+     *
+     * @since 5.1.0
+     */
+    public static void walk(@NotNull ParsedElement element, @NotNull BiConsumer<String, ParsedPrimitive> visitor) {
+        walk(element, new StringBuilder(), false, (key, value) -> visitor.accept(key, value.asPrimitive()));
+    }
+
+    /**
+     * Walk all the values in an element
+     *
+     * @param element          The element to walk
+     * @param path             The current path, this builder is reused for every value
+     * @param returnObjArrKeys Weather or not to visit objects and arrays
+     * @param visitor          The visitor to call for each value
+     *
+     * @since 5.1.0
+     */
+    protected static void walk(@NotNull ParsedElement element, @NotNull StringBuilder path, boolean returnObjArrKeys, @NotNull BiConsumer<String, ParsedElement> visitor) {
+        int length = path.length();
+
         if (element.isObject()) {
             ParsedObject object = element.asObject();
 
             for (Map.Entry<String, ParsedElement> entry : object.getEntries()) {
-                if (entry.getValue().isObject()) {
+                ParsedElement value = entry.getValue();
+
+                ConfigPath.escape(path, entry.getKey());
+
+                if (value.isObject()) {
                     if (returnObjArrKeys) {
-                        keys.add(path + entry.getKey().replace(".", "\\.")); // FIXME \. -> \\. -> split
+                        visitor.accept(path.toString(), value);
                     }
-                    keys.addAll(getKeys(entry.getValue(), path + entry.getKey().replace(".", "\\.") + ".", returnObjArrKeys));
-                } else if (entry.getValue().isArray()) {
+                    path.append('.');
+                    walk(value, path, returnObjArrKeys, visitor);
+                } else if (value.isArray()) {
                     if (returnObjArrKeys) {
-                        keys.add(path + entry.getKey().replace(".", "\\."));
+                        visitor.accept(path.toString(), value);
                     }
-                    keys.addAll(getKeys(entry.getValue(), path + entry.getKey().replace(".", "\\."), returnObjArrKeys));
-                } else if (entry.getValue().isPrimitive()) {
-                    keys.add(path + entry.getKey().replace(".", "\\."));
+                    walk(value, path, returnObjArrKeys, visitor);
+                } else if (value.isPrimitive()) {
+                    visitor.accept(path.toString(), value);
                 }
+
+                path.setLength(length);
             }
         } else if (element.isArray()) {
             ParsedArray array = element.asArray();
 
             for (int i = 0; i < array.getSize(); i++) {
-                if (array.get(i).isObject()) {
+                ParsedElement value = array.get(i);
+
+                path.append('[').append(i).append(']');
+
+                if (value.isObject()) {
                     if (returnObjArrKeys) {
-                        keys.add(path + "[" + i + "]");
+                        visitor.accept(path.toString(), value);
                     }
-                    keys.addAll(getKeys(array.get(i), path + "[" + i + "]" + ".", returnObjArrKeys));
-                } else if (array.get(i).isArray()) {
+                    path.append('.');
+                    walk(value, path, returnObjArrKeys, visitor);
+                } else if (value.isArray()) {
                     if (returnObjArrKeys) {
-                        keys.add(path + "[" + i + "]");
+                        visitor.accept(path.toString(), value);
                     }
-                    keys.addAll(getKeys(array.get(i), path + "[" + i + "]", returnObjArrKeys));
-                } else if (array.get(i).isPrimitive()) {
-                    keys.add(path + "[" + i + "]");
+                    walk(value, path, returnObjArrKeys, visitor);
+                } else if (value.isPrimitive()) {
+                    visitor.accept(path.toString(), value);
                 }
+
+                path.setLength(length);
             }
         }
-
-        return keys;
     }
 }
\ No newline at end of file
@@ -1,9 +1,23 @@
 package io.github.kale_ko.ejcl;
 
+import io.github.kale_ko.bjsl.elements.ParsedElement;
+import io.github.kale_ko.bjsl.elements.ParsedObject;
 import io.github.kale_ko.bjsl.parsers.exception.InvalidTypeException;
+import io.github.kale_ko.bjsl.processor.ObjectProcessor;
+import io.github.kale_ko.ejcl.event.ConfigChange;
+import io.github.kale_ko.ejcl.event.ConfigListener;
+import io.github.kale_ko.ejcl.event.ConfigListeners;
+import io.github.kale_ko.ejcl.event.ConfigPublisher;
 import io.github.kale_ko.ejcl.exception.ConfigLoadException;
 import io.github.kale_ko.ejcl.exception.ConfigNotLoadedException;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -11,13 +25,25 @@ import org.jetbrains.annotations.Nullable;
  * An abstract class that all structured configs extend from
  * <p>
  * Contains all the logic for getting/setting values
+ * <p>
+ * The data being stored is published as a snapshot, every load creates a new instance and swaps it in with a single volatile write.
+ * Readers never lock and always see a fully loaded instance, a reader that called {@link #get()} before a reload keeps the old instance until it calls {@link #get()} again.
+ * The instance itself is not copied so changes made to it by one thread are not safely visible to other threads.
  *
  * @param <T> The type of the data being stored
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 1.0.0
  */
 public abstract class StructuredConfig<T> {
+    /**
+     * The updater used to publish updates only if the data being stored was not replaced while they ran
+     *
+     * @since 5.1.0
+     */
+    @SuppressWarnings("rawtypes")
+    protected static final @NotNull AtomicReferenceFieldUpdater<StructuredConfig, Object> CONFIG_UPDATER = AtomicReferenceFieldUpdater.newUpdater(StructuredConfig.class, Object.class, "config");
+
     /**
      * The class of the data being stored
      *
@@ -27,10 +53,47 @@ public abstract class StructuredConfig<T> {
 
     /**
      * The data being stored
+     * <p>
+     * Loads must fully create a new instance before assigning it here so readers only ever see complete snapshots
      *
      * @since 1.0.0
      */
-    protected @Nullable T config = null;
+    protected volatile @Nullable T config = null;
+
+    /**
+     * The listeners of this config
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ConfigListeners listeners = new ConfigListeners();
+
+    /**
+     * The lock used when queueing asynchronous loads and saves
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Object ASYNC_LOCK = new Object();
+
+    /**
+     * The lock that orders updates
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Object UPDATE_LOCK = new Object();
+
+    /**
+     * The ObjectProcessor used when a subclass does not provide one
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ObjectProcessor defaultProcessor = new ObjectProcessor.Builder().build();
+
+    /**
+     * The last asynchronous load or save that was queued
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull CompletableFuture<Void> asyncTail = CompletableFuture.completedFuture(null);
 
     /**
      * Create a new Config
@@ -78,11 +141,36 @@ public abstract class StructuredConfig<T> {
             }
         }
 
-        if (this.config == null) {
+        T config = this.config;
+        if (config == null) {
             throw new ConfigNotLoadedException();
         }
 
-        return this.config;
+        return config;
+    }
+
+    /**
+     * Get the data being stored on the default executor, loading it if necessary
+     *
+     * @return A future completed with the data being stored
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<T> getAsync() {
+        return this.getAsync(ConfigExecutors.getDefault());
+    }
+
+    /**
+     * Get the data being stored on an executor, loading it if necessary
+     *
+     * @param executor The executor to get on
+     *
+     * @return A future completed with the data being stored
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<T> getAsync(@NotNull Executor executor) {
+        return CompletableFuture.supplyAsync(this::get, executor);
     }
 
     /**
@@ -93,11 +181,12 @@ public abstract class StructuredConfig<T> {
      * @since 3.5.0
      */
     public @Nullable T getCached() {
-        if (this.config == null) {
+        T config = this.config;
+        if (config == null) {
             throw new ConfigNotLoadedException();
         }
 
-        return this.config;
+        return config;
     }
 
     /**
@@ -108,7 +197,157 @@ public abstract class StructuredConfig<T> {
      * @since 1.0.0
      */
     public void set(@NotNull T value) {
+        T oldConfig = this.config;
         this.config = value;
+
+        if (!this.listeners.isEmpty() && oldConfig != value) {
+            this.dispatchChanges(oldConfig != null ? this.toElement(oldConfig) : null, this.toElement(value));
+        }
+    }
+
+    /**
+     * Apply a batch of changes to a copy of the data being stored and save the config once
+     * <p>
+     * The copy is published with a single compare and set after the mutator returns, so readers see either none or all of the changes.
+     * Updates run one at a time so concurrent updates are not lost.
+     * If the data was replaced while the mutator ran, for example by a load, the mutator is run again on a copy of the new data so the old data is never published again.
+     * The mutator may be run more than once and should only change the copy.
+     *
+     * @param mutator The function that changes the copy
+     *
+     * @throws IOException On save error
+     * @since 5.1.0
+     */
+    public void update(@NotNull Consumer<T> mutator) throws IOException {
+        synchronized (UPDATE_LOCK) {
+            while (true) {
+                T oldConfig = this.get();
+
+                T copy = this.fromElement(this.toElement(oldConfig));
+                mutator.accept(copy);
+
+                if (CONFIG_UPDATER.compareAndSet(this, oldConfig, copy)) {
+                    if (!this.listeners.isEmpty()) {
+                        this.dispatchChanges(this.toElement(oldConfig), this.toElement(copy));
+                    }
+
+                    break;
+                }
+            }
+        }
+
+        this.save();
+    }
+
+    /**
+     * Add a listener that is called when a matching value changes
+     * <p>
+     * Listeners are called when new data is set and for changes found when the config is loaded.
+     * Changes made directly to the data being stored are not seen until it is loaded again.
+     *
+     * @param pattern  The pattern of the paths to listen to, see {@link ConfigListeners}
+     * @param listener The listener to add
+     *
+     * @since 5.1.0
+     */
+    public void addListener(@NotNull String pattern, @NotNull ConfigListener listener) {
+        this.listeners.add(pattern, listener);
+    }
+
+    /**
+     * Remove a listener
+     *
+     * @param pattern  The pattern the listener was added with
+     * @param listener The listener to remove
+     *
+     * @since 5.1.0
+     */
+    public void removeListener(@NotNull String pattern, @NotNull ConfigListener listener) {
+        this.listeners.remove(pattern, listener);
+    }
+
+    /**
+     * Get a publisher of every change to this config
+     * <p>
+     * Changes are delivered on the common pool
+     *
+     * @return A publisher of the changes
+     *
+     * @since 5.1.0
+     */
+    public @NotNull Flow.Publisher<ConfigChange> changes() {
+        return this.changes("", ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get a publisher of the changes to this config matching a pattern
+     * <p>
+     * Slow subscribers only receive the latest change per path, see {@link ConfigPublisher}
+     *
+     * @param pattern  The pattern of the paths to publish, see {@link ConfigListeners}
+     * @param executor The executor to deliver changes on
+     *
+     * @return A publisher of the changes
+     *
+     * @since 5.1.0
+     */
+    public @NotNull Flow.Publisher<ConfigChange> changes(@NotNull String pattern, @NotNull Executor executor) {
+        return new ConfigPublisher(this.listeners, pattern, executor);
+    }
+
+    /**
+     * Call the listeners matching the differences between the old and new data
+     *
+     * @param oldElement The old data or null if there was none
+     * @param newElement The new data
+     *
+     * @since 5.1.0
+     */
+    protected void dispatchChanges(@Nullable ParsedElement oldElement, @NotNull ParsedElement newElement) {
+        if (this.listeners.isEmpty()) {
+            return;
+        }
+
+        ParsedDiff.diff(oldElement != null ? oldElement : ParsedObject.create(), newElement, this.listeners);
+    }
+
+    /**
+     * Get the ObjectProcessor used to convert the data being stored to and from elements
+     * <p>
+     * Subclasses that have their own processor should override this
+     *
+     * @return The ObjectProcessor to use
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull ObjectProcessor getProcessor() {
+        return this.defaultProcessor;
+    }
+
+    /**
+     * Convert data to an element so it can be compared
+     *
+     * @param config The data to convert
+     *
+     * @return The converted data
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull ParsedElement toElement(@NotNull T config) {
+        return this.getProcessor().toElement(config);
+    }
+
+    /**
+     * Convert an element back to data
+     *
+     * @param element The element to convert
+     *
+     * @return The converted data
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull T fromElement(@NotNull ParsedElement element) {
+        return this.getProcessor().toObject(element, this.clazz);
     }
 
     /**
@@ -140,6 +379,84 @@ public abstract class StructuredConfig<T> {
      */
     public abstract void load(boolean save) throws IOException;
 
+    /**
+     * Load the config on the default executor
+     *
+     * @return A future completed when the config is loaded
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> loadAsync() {
+        return this.loadAsync(false, ConfigExecutors.getDefault());
+    }
+
+    /**
+     * Load the config on an executor
+     * <p>
+     * Asynchronous loads and saves of a config run one at a time in the order they were called
+     *
+     * @param save     Weather to save the config after loaded (To update the template)
+     * @param executor The executor to load on
+     *
+     * @return A future completed when the config is loaded
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> loadAsync(boolean save, @NotNull Executor executor) {
+        return this.queueAsync(() -> this.load(save), executor);
+    }
+
+    /**
+     * Save the config on the default executor
+     *
+     * @return A future completed when the config is saved
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> saveAsync() {
+        return this.saveAsync(ConfigExecutors.getDefault());
+    }
+
+    /**
+     * Save the config on an executor
+     * <p>
+     * Asynchronous loads and saves of a config run one at a time in the order they were called
+     *
+     * @param executor The executor to save on
+     *
+     * @return A future completed when the config is saved
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> saveAsync(@NotNull Executor executor) {
+        return this.queueAsync(this::save, executor);
+    }
+
+    /**
+     * Queue a load or save to run after the previously queued one
+     *
+     * @param task     The load or save to run
+     * @param executor The executor to run on
+     *
+     * @return A future completed when the task has run
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull CompletableFuture<Void> queueAsync(@NotNull IORunnable task, @NotNull Executor executor) {
+        synchronized (ASYNC_LOCK) {
+            CompletableFuture<Void> future = this.asyncTail.handle((result, error) -> null).thenRunAsync(() -> {
+                try {
+                    task.run();
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+
+            this.asyncTail = future;
+            return future;
+        }
+    }
+
     /**
      * Save the config
      *
@@ -1,10 +1,29 @@
 package io.github.kale_ko.ejcl;
 
+import io.github.kale_ko.bjsl.elements.ParsedElement;
 import io.github.kale_ko.bjsl.elements.ParsedObject;
+import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
 import io.github.kale_ko.bjsl.processor.ObjectProcessor;
+import io.github.kale_ko.ejcl.event.ConfigChange;
+import io.github.kale_ko.ejcl.event.ConfigListener;
+import io.github.kale_ko.ejcl.event.ConfigListeners;
+import io.github.kale_ko.ejcl.event.ConfigPublisher;
 import io.github.kale_ko.ejcl.exception.ConfigLoadException;
 import io.github.kale_ko.ejcl.exception.ConfigNotLoadedException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -12,8 +31,11 @@ import org.jetbrains.annotations.Nullable;
  * An abstract class that all unstructured configs extend from
  * <p>
  * Contains all the logic for getting/setting values
+ * <p>
+ * By default a config must not be read and written from different threads at the same time.
+ * A thread safe config guards its data with a {@link StampedLock}, reads share the read lock and only block while a write is in progress and writes are exclusive.
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 3.0.0
  */
 public abstract class UnstructuredConfig {
@@ -31,6 +53,60 @@ public abstract class UnstructuredConfig {
      */
     protected @Nullable ParsedObject config;
 
+    /**
+     * The lock guarding the data being stored or null if the config is not thread safe
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable StampedLock lock;
+
+    /**
+     * The structural hashes of the data being stored
+     * <p>
+     * Kept for as long as the data is, every change invalidates the hashes along its path and replacing the data clears them.
+     * Must only be changed while holding the write lock, and only be read while holding the read lock
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ParsedHash hashes = new ParsedHash();
+
+    /**
+     * The number of changes made to the data being stored
+     * <p>
+     * This is compared first to tell if the data changed since it was last saved, the hashes are only compared when it did
+     *
+     * @since 5.1.0
+     */
+    protected long modifications = 0;
+
+    /**
+     * The values that have been bound to this config, indexed by path so a change only visits the values on its path and under it
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ConfigListeners bound = new ConfigListeners();
+
+    /**
+     * The listeners of this config
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ConfigListeners listeners = new ConfigListeners();
+
+    /**
+     * The lock used when queueing asynchronous loads and saves
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Object ASYNC_LOCK = new Object();
+
+    /**
+     * The last asynchronous load or save that was queued
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull CompletableFuture<Void> asyncTail = CompletableFuture.completedFuture(null);
+
     /**
      * Create a new Config
      *
@@ -39,7 +115,32 @@ public abstract class UnstructuredConfig {
      * @since 3.0.0
      */
     protected UnstructuredConfig(@NotNull ObjectProcessor processor) {
+        this(processor, false);
+    }
+
+    /**
+     * Create a new Config
+     *
+     * @param processor  The ObjectProcessor to use for serialization/deserialization
+     * @param threadSafe If the config can be read and written from multiple threads
+     *
+     * @since 5.1.0
+     */
+    protected UnstructuredConfig(@NotNull ObjectProcessor processor, boolean threadSafe) {
         this.processor = processor;
+
+        this.lock = threadSafe ? new StampedLock() : null;
+    }
+
+    /**
+     * Get if the config can be read and written from multiple threads
+     *
+     * @return If the config can be read and written from multiple threads
+     *
+     * @since 5.1.0
+     */
+    public boolean getThreadSafe() {
+        return this.lock != null;
     }
 
     /**
@@ -52,6 +153,19 @@ public abstract class UnstructuredConfig {
      * @since 3.0.0
      */
     public @Nullable Object get(@NotNull String path) {
+        return this.get(ConfigPath.of(path));
+    }
+
+    /**
+     * Get a path being stored and load it if necessary
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object get(@NotNull ConfigPath path) {
         if (!this.getLoaded()) {
             try {
                 this.load();
@@ -60,11 +174,270 @@ public abstract class UnstructuredConfig {
             }
         }
 
-        if (this.config == null) {
-            throw new ConfigNotLoadedException();
+        return this.read(() -> {
+            ParsedObject config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            return PathResolver.resolve(config, path);
+        });
+    }
+
+    /**
+     * Get a path being stored as an int and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public int getInt(@NotNull String path, int defaultValue) {
+        return this.getInt(ConfigPath.of(path), defaultValue);
+    }
+
+    /**
+     * Get a path being stored as an int and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public int getInt(@NotNull ConfigPath path, int defaultValue) {
+        ParsedPrimitive primitive = this.getPrimitive(path);
+        if (primitive != null) {
+            Object value = primitive.get();
+            if (value instanceof Number) {
+                return ((Number) value).intValue();
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Get a path being stored as a long and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public long getLong(@NotNull String path, long defaultValue) {
+        return this.getLong(ConfigPath.of(path), defaultValue);
+    }
+
+    /**
+     * Get a path being stored as a long and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public long getLong(@NotNull ConfigPath path, long defaultValue) {
+        ParsedPrimitive primitive = this.getPrimitive(path);
+        if (primitive != null) {
+            Object value = primitive.get();
+            if (value instanceof Number) {
+                return ((Number) value).longValue();
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Get a path being stored as a double and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public double getDouble(@NotNull String path, double defaultValue) {
+        return this.getDouble(ConfigPath.of(path), defaultValue);
+    }
+
+    /**
+     * Get a path being stored as a double and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public double getDouble(@NotNull ConfigPath path, double defaultValue) {
+        ParsedPrimitive primitive = this.getPrimitive(path);
+        if (primitive != null) {
+            Object value = primitive.get();
+            if (value instanceof Number) {
+                return ((Number) value).doubleValue();
+            }
         }
 
-        return PathResolver.resolve(this.config, path);
+        return defaultValue;
+    }
+
+    /**
+     * Get a path being stored as a boolean and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a boolean
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public boolean getBoolean(@NotNull String path, boolean defaultValue) {
+        return this.getBoolean(ConfigPath.of(path), defaultValue);
+    }
+
+    /**
+     * Get a path being stored as a boolean and load it if necessary
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a boolean
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    public boolean getBoolean(@NotNull ConfigPath path, boolean defaultValue) {
+        ParsedPrimitive primitive = this.getPrimitive(path);
+        if (primitive != null) {
+            Object value = primitive.get();
+            if (value instanceof Boolean) {
+                return (Boolean) value;
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Get the primitive at a path being stored and load it if necessary
+     *
+     * @param path The path to get
+     *
+     * @return The primitive being stored or null if the path is not a primitive
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ParsedPrimitive getPrimitive(@NotNull ConfigPath path) {
+        if (!this.getLoaded()) {
+            try {
+                this.load();
+            } catch (IOException e) {
+                throw new ConfigLoadException(e);
+            }
+        }
+
+        return this.read(() -> {
+            ParsedObject config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            ParsedElement element = PathResolver.resolveElement(config, path);
+            return element != null && element.isPrimitive() ? element.asPrimitive() : null;
+        });
+    }
+
+    /**
+     * Get a path being stored on the default executor, loading it if necessary
+     *
+     * @param path The path to get
+     *
+     * @return A future completed with the value being stored
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Object> getAsync(@NotNull String path) {
+        return this.getAsync(ConfigPath.of(path), ConfigExecutors.getDefault());
+    }
+
+    /**
+     * Get a path being stored on an executor, loading it if necessary
+     *
+     * @param path     The path to get
+     * @param executor The executor to get on
+     *
+     * @return A future completed with the value being stored
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Object> getAsync(@NotNull ConfigPath path, @NotNull Executor executor) {
+        return CompletableFuture.supplyAsync(() -> this.get(path), executor);
+    }
+
+    /**
+     * Get many paths being stored and load them if necessary
+     *
+     * @param paths The paths to get
+     *
+     * @return The values being stored by path
+     *
+     * @since 5.1.0
+     */
+    public @NotNull Map<String, Object> getAll(@NotNull Collection<String> paths) {
+        if (!this.getLoaded()) {
+            try {
+                this.load();
+            } catch (IOException e) {
+                throw new ConfigLoadException(e);
+            }
+        }
+
+        return this.read(() -> {
+            ParsedObject config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            return PathResolver.resolveAll(config, paths);
+        });
+    }
+
+    /**
+     * Get many paths being stored and load them if necessary
+     *
+     * @param paths The paths to get
+     *
+     * @return The values being stored in the same order as the paths
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object @NotNull [] getAll(@NotNull ConfigPath @NotNull ... paths) {
+        if (!this.getLoaded()) {
+            try {
+                this.load();
+            } catch (IOException e) {
+                throw new ConfigLoadException(e);
+            }
+        }
+
+        return this.read(() -> {
+            ParsedObject config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            return PathResolver.resolveAll(config, paths);
+        });
     }
 
     /**
@@ -77,11 +450,27 @@ public abstract class UnstructuredConfig {
      * @since 3.5.0
      */
     public @Nullable Object getCached(@NotNull String path) {
-        if (this.config == null) {
-            throw new ConfigNotLoadedException();
-        }
+        return this.getCached(ConfigPath.of(path));
+    }
 
-        return PathResolver.resolve(this.config, path);
+    /**
+     * Get a path being stored
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored or null
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object getCached(@NotNull ConfigPath path) {
+        return this.read(() -> {
+            ParsedObject config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            return PathResolver.resolve(config, path);
+        });
     }
 
     /**
@@ -93,11 +482,488 @@ public abstract class UnstructuredConfig {
      * @since 3.0.0
      */
     public void set(@NotNull String path, @Nullable Object value) {
-        if (this.config == null) {
-            throw new ConfigNotLoadedException();
+        this.set(ConfigPath.of(path), value);
+    }
+
+    /**
+     * Set a path being stored
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void set(@NotNull ConfigPath path, @Nullable Object value) {
+        this.setPrimitive(path, ParsedPrimitive.from(value));
+    }
+
+    /**
+     * Set a path being stored to an int
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setInt(@NotNull String path, int value) {
+        this.setInt(ConfigPath.of(path), value);
+    }
+
+    /**
+     * Set a path being stored to an int
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setInt(@NotNull ConfigPath path, int value) {
+        this.setPrimitive(path, ParsedPrimitive.fromInteger(value));
+    }
+
+    /**
+     * Set a path being stored to a long
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setLong(@NotNull String path, long value) {
+        this.setLong(ConfigPath.of(path), value);
+    }
+
+    /**
+     * Set a path being stored to a long
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setLong(@NotNull ConfigPath path, long value) {
+        this.setPrimitive(path, ParsedPrimitive.fromLong(value));
+    }
+
+    /**
+     * Set a path being stored to a double
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setDouble(@NotNull String path, double value) {
+        this.setDouble(ConfigPath.of(path), value);
+    }
+
+    /**
+     * Set a path being stored to a double
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setDouble(@NotNull ConfigPath path, double value) {
+        this.setPrimitive(path, ParsedPrimitive.fromDouble(value));
+    }
+
+    /**
+     * Set a path being stored to a boolean
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setBoolean(@NotNull String path, boolean value) {
+        this.setBoolean(ConfigPath.of(path), value);
+    }
+
+    /**
+     * Set a path being stored to a boolean
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void setBoolean(@NotNull ConfigPath path, boolean value) {
+        this.setPrimitive(path, ParsedPrimitive.fromBoolean(value));
+    }
+
+    /**
+     * Set a path being stored to a primitive
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    protected void setPrimitive(@NotNull ConfigPath path, @NotNull ParsedPrimitive value) {
+        boolean notify = !this.listeners.isEmpty();
+
+        ConfigChange change = this.write(() -> {
+            ParsedObject config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            Object oldValue = notify ? PathResolver.resolve(config, path) : null;
+            PathResolver.updatePrimitive(config, path, value, true, this.hashes);
+            this.modifications++;
+
+            if (notify) {
+                Object newValue = PathResolver.resolve(config, path);
+                if (!Objects.equals(oldValue, newValue)) {
+                    return new ConfigChange(path.toString(), oldValue, newValue);
+                }
+            }
+            return null;
+        });
+
+        this.invalidateBound(path);
+
+        if (change != null) {
+            this.listeners.dispatch(change);
         }
+    }
 
-        PathResolver.update(this.config, path, value, true);
+    /**
+     * Apply a batch of changes and save the config once
+     * <p>
+     * If the config is thread safe all the changes are applied under a single write lock so readers see either none or all of them
+     *
+     * @param batch The function that records the changes
+     *
+     * @throws IOException On save error
+     * @since 5.1.0
+     */
+    public void batch(@NotNull Consumer<ConfigBatch> batch) throws IOException {
+        ConfigBatch changes = new ConfigBatch();
+        batch.accept(changes);
+
+        if (changes.getSize() == 0) {
+            return;
+        }
+
+        this.applyBatch(changes);
+        this.save();
+    }
+
+    /**
+     * Set many paths being stored
+     * <p>
+     * The values are applied together like a {@link #batch(Consumer)} but the config is not saved
+     *
+     * @param values The values to set by path
+     *
+     * @throws IOException On apply error
+     * @since 5.1.0
+     */
+    public void setAll(@NotNull Map<String, ?> values) throws IOException {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        ConfigBatch batch = new ConfigBatch();
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            batch.set(entry.getKey(), entry.getValue());
+        }
+
+        this.applyBatch(batch);
+    }
+
+    /**
+     * Apply a batch of changes to the data being stored
+     *
+     * @param batch The changes to apply
+     *
+     * @throws IOException On apply error
+     * @since 5.1.0
+     */
+    protected void applyBatch(@NotNull ConfigBatch batch) throws IOException {
+        boolean notify = !this.listeners.isEmpty();
+
+        List<ConfigChange> changes = this.write(() -> {
+            ParsedObject config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            List<ConfigChange> found = notify ? new ArrayList<>() : null;
+            for (int i = 0; i < batch.getSize(); i++) {
+                ConfigPath path = batch.getPath(i);
+
+                Object oldValue = notify ? PathResolver.resolve(config, path) : null;
+                PathResolver.updatePrimitive(config, path, batch.getValue(i), true, this.hashes);
+                this.modifications++;
+
+                if (notify) {
+                    Object newValue = PathResolver.resolve(config, path);
+                    if (!Objects.equals(oldValue, newValue)) {
+                        found.add(new ConfigChange(path.toString(), oldValue, newValue));
+                    }
+                }
+            }
+            return found;
+        });
+
+        for (int i = 0; i < batch.getSize(); i++) {
+            this.invalidateBound(batch.getPath(i));
+        }
+
+        if (changes != null) {
+            for (ConfigChange change : changes) {
+                this.listeners.dispatch(change);
+            }
+        }
+    }
+
+    /**
+     * Add a listener that is called when a matching value changes
+     * <p>
+     * Listeners are called for changes made through this config and for changes found when the config is loaded
+     *
+     * @param pattern  The pattern of the paths to listen to, see {@link ConfigListeners}
+     * @param listener The listener to add
+     *
+     * @since 5.1.0
+     */
+    public void addListener(@NotNull String pattern, @NotNull ConfigListener listener) {
+        this.listeners.add(pattern, listener);
+    }
+
+    /**
+     * Remove a listener
+     *
+     * @param pattern  The pattern the listener was added with
+     * @param listener The listener to remove
+     *
+     * @since 5.1.0
+     */
+    public void removeListener(@NotNull String pattern, @NotNull ConfigListener listener) {
+        this.listeners.remove(pattern, listener);
+    }
+
+    /**
+     * Get a publisher of every change to this config
+     * <p>
+     * Changes are delivered on the common pool
+     *
+     * @return A publisher of the changes
+     *
+     * @since 5.1.0
+     */
+    public @NotNull Flow.Publisher<ConfigChange> changes() {
+        return this.changes("", ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Get a publisher of the changes to this config matching a pattern
+     * <p>
+     * Slow subscribers only receive the latest change per path, see {@link ConfigPublisher}
+     *
+     * @param pattern  The pattern of the paths to publish, see {@link ConfigListeners}
+     * @param executor The executor to deliver changes on
+     *
+     * @return A publisher of the changes
+     *
+     * @since 5.1.0
+     */
+    public @NotNull Flow.Publisher<ConfigChange> changes(@NotNull String pattern, @NotNull Executor executor) {
+        return new ConfigPublisher(this.listeners, pattern, executor);
+    }
+
+    /**
+     * Call the listeners matching the differences between the old and new data
+     *
+     * @param oldConfig The old data or null if there was none
+     * @param newConfig The new data
+     *
+     * @since 5.1.0
+     */
+    protected void dispatchChanges(@Nullable ParsedObject oldConfig, @NotNull ParsedObject newConfig) {
+        if (this.listeners.isEmpty()) {
+            return;
+        }
+
+        ParsedDiff.diff(oldConfig != null ? oldConfig : ParsedObject.create(), newConfig, this.listeners);
+    }
+
+    /**
+     * Replace the data being stored
+     * <p>
+     * The cached hashes of the old data are dropped
+     *
+     * @param config The new data or null
+     *
+     * @since 5.1.0
+     */
+    protected void setConfig(@Nullable ParsedObject config) {
+        this.write(() -> {
+            this.config = config;
+            this.hashes.clear();
+            return null;
+        });
+    }
+
+    /**
+     * Run a read of the data being stored
+     * <p>
+     * If the config is thread safe the read holds the read lock.
+     * Reads walk the tree which is not safe to do while it is being changed, so they are never run optimistically.
+     *
+     * @param reader The read to run
+     * @param <R>    The type of the result
+     *
+     * @return The result of the read
+     *
+     * @since 5.1.0
+     */
+    protected <R> R read(@NotNull Supplier<R> reader) {
+        StampedLock lock = this.lock;
+        if (lock == null) {
+            return reader.get();
+        }
+
+        long stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Run a write of the data being stored
+     * <p>
+     * If the config is thread safe the write holds the write lock
+     *
+     * @param writer The write to run
+     * @param <R>    The type of the result
+     *
+     * @return The result of the write
+     *
+     * @since 5.1.0
+     */
+    protected <R> R write(@NotNull Supplier<R> writer) {
+        StampedLock lock = this.lock;
+        if (lock == null) {
+            return writer.get();
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            return writer.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Bind a path to a typed handle that caches its value
+     *
+     * @param path The path to bind
+     * @param type The type of the value
+     * @param <T>  The type of the value
+     *
+     * @return The bound value
+     *
+     * @since 5.1.0
+     */
+    public <T> @NotNull ConfigValue<T> bind(@NotNull String path, @NotNull Class<T> type) {
+        return this.bind(ConfigPath.of(path), type);
+    }
+
+    /**
+     * Bind a path to a typed handle that caches its value
+     * <p>
+     * The cached value is dropped when the config is loaded or when the path, one of its parents, or one of its children is set through this config
+     *
+     * @param path The path to bind
+     * @param type The type of the value
+     * @param <T>  The type of the value
+     *
+     * @return The bound value
+     *
+     * @since 5.1.0
+     */
+    public <T> @NotNull ConfigValue<T> bind(@NotNull ConfigPath path, @NotNull Class<T> type) {
+        ConfigValue<T> value = new ConfigValue<>(this, path, type);
+        this.bound.add(path, value.invalidator);
+        return value;
+    }
+
+    /**
+     * Unbind a value so it is no longer invalidated by this config
+     *
+     * @param value The value to unbind
+     *
+     * @since 5.1.0
+     */
+    public void unbind(@NotNull ConfigValue<?> value) {
+        this.bound.remove(value.getPath(), value.invalidator);
+    }
+
+    /**
+     * Invalidate the values bound to a path, its parents, or its children
+     * <p>
+     * Only the bindings along the path and under it are visited, the cost does not depend on how many other values are bound
+     *
+     * @param path The path that was changed
+     *
+     * @since 5.1.0
+     */
+    protected void invalidateBound(@NotNull ConfigPath path) {
+        if (this.bound.isEmpty()) {
+            return;
+        }
+
+        this.bound.dispatchTree(path, new ConfigChange(path.toString(), null, null));
+    }
+
+    /**
+     * Invalidate all the values bound to this config
+     *
+     * @since 5.1.0
+     */
+    protected void invalidateBound() {
+        if (this.bound.isEmpty()) {
+            return;
+        }
+
+        this.bound.dispatchTree(null, new ConfigChange("", null, null));
+    }
+
+    /**
+     * Convert a stored value to a type
+     *
+     * @param value The stored value
+     * @param type  The type to convert to
+     * @param <T>   The type to convert to
+     *
+     * @return The converted value
+     *
+     * @since 5.1.0
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> @Nullable T convert(@Nullable Object value, @NotNull Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        if (type.isPrimitive()) {
+            if ((type == int.class && value instanceof Integer) || (type == long.class && value instanceof Long) || (type == double.class && value instanceof Double) || (type == float.class && value instanceof Float) || (type == boolean.class && value instanceof Boolean) || (type == short.class && value instanceof Short) || (type == byte.class && value instanceof Byte) || (type == char.class && value instanceof Character)) {
+                return (T) value;
+            }
+        }
+
+        return this.processor.toObject(ParsedPrimitive.from(value), type);
     }
 
     /**
@@ -129,6 +995,84 @@ public abstract class UnstructuredConfig {
      */
     public abstract void load(boolean save) throws IOException;
 
+    /**
+     * Load the config on the default executor
+     *
+     * @return A future completed when the config is loaded
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> loadAsync() {
+        return this.loadAsync(false, ConfigExecutors.getDefault());
+    }
+
+    /**
+     * Load the config on an executor
+     * <p>
+     * Asynchronous loads and saves of a config run one at a time in the order they were called
+     *
+     * @param save     Weather to save the config after loaded (To update the template)
+     * @param executor The executor to load on
+     *
+     * @return A future completed when the config is loaded
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> loadAsync(boolean save, @NotNull Executor executor) {
+        return this.queueAsync(() -> this.load(save), executor);
+    }
+
+    /**
+     * Save the config on the default executor
+     *
+     * @return A future completed when the config is saved
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> saveAsync() {
+        return this.saveAsync(ConfigExecutors.getDefault());
+    }
+
+    /**
+     * Save the config on an executor
+     * <p>
+     * Asynchronous loads and saves of a config run one at a time in the order they were called
+     *
+     * @param executor The executor to save on
+     *
+     * @return A future completed when the config is saved
+     *
+     * @since 5.1.0
+     */
+    public @NotNull CompletableFuture<Void> saveAsync(@NotNull Executor executor) {
+        return this.queueAsync(this::save, executor);
+    }
+
+    /**
+     * Queue a load or save to run after the previously queued one
+     *
+     * @param task     The load or save to run
+     * @param executor The executor to run on
+     *
+     * @return A future completed when the task has run
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull CompletableFuture<Void> queueAsync(@NotNull IORunnable task, @NotNull Executor executor) {
+        synchronized (ASYNC_LOCK) {
+            CompletableFuture<Void> future = this.asyncTail.handle((result, error) -> null).thenRunAsync(() -> {
+                try {
+                    task.run();
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor);
+
+            this.asyncTail = future;
+            return future;
+        }
+    }
+
     /**
      * Save the config
      *
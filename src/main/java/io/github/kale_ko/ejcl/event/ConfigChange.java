@@ -0,0 +1,82 @@
+package io.github.kale_ko.ejcl.event;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A change to a single value of a config
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ConfigChange {
+    /**
+     * The path of the value that changed
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull String path;
+
+    /**
+     * The value before the change
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable Object oldValue;
+
+    /**
+     * The value after the change
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable Object newValue;
+
+    /**
+     * Create a new ConfigChange
+     *
+     * @param path     The path of the value that changed
+     * @param oldValue The value before the change
+     * @param newValue The value after the change
+     *
+     * @since 5.1.0
+     */
+    public ConfigChange(@NotNull String path, @Nullable Object oldValue, @Nullable Object newValue) {
+        this.path = path;
+
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    /**
+     * Get the path of the value that changed
+     *
+     * @return The path of the value that changed
+     *
+     * @since 5.1.0
+     */
+    public @NotNull String getPath() {
+        return this.path;
+    }
+
+    /**
+     * Get the value before the change
+     *
+     * @return The value before the change or null if it was not set
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object getOldValue() {
+        return this.oldValue;
+    }
+
+    /**
+     * Get the value after the change
+     *
+     * @return The value after the change or null if it was removed
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object getNewValue() {
+        return this.newValue;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.github.kale_ko.ejcl.event;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A listener that is called when a value of a config changes
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+@FunctionalInterface
+public interface ConfigListener {
+    /**
+     * Called when a value matching the pattern this listener was added with changes
+     *
+     * @param change The change
+     *
+     * @since 5.1.0
+     */
+    void onChange(@NotNull ConfigChange change);
+}
\ No newline at end of file
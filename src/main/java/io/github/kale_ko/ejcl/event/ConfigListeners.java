@@ -0,0 +1,344 @@
+package io.github.kale_ko.ejcl.event;
+
+import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
+import io.github.kale_ko.ejcl.ConfigPath;
+import io.github.kale_ko.ejcl.ParsedDiff;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A set of listeners indexed by path pattern
+ * <p>
+ * Patterns are paths where a {@code *} segment matches any single segment, a listener is called for changes to the path it matches and every path under it.
+ * The empty pattern matches every path.
+ * Listeners are stored in a trie so dispatching a change only visits the nodes along its path, the cost does not depend on how many other listeners exist.
+ * <p>
+ * Listeners are called on the thread that made the change, exceptions thrown by a listener are passed on to that thread
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ConfigListeners implements ParsedDiff.Visitor {
+    /**
+     * The segment that matches any single segment
+     *
+     * @since 5.1.0
+     */
+    public static final @NotNull String WILDCARD = "*";
+
+    /**
+     * A node of the listener trie
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    protected static class Node {
+        /**
+         * The children of this node by segment
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull Map<String, Node> children = new ConcurrentHashMap<>();
+
+        /**
+         * The child matching any segment or null
+         *
+         * @since 5.1.0
+         */
+        protected volatile @Nullable Node wildcard = null;
+
+        /**
+         * The listeners of this node
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull List<ConfigListener> listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * The root of the listener trie
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Node root = new Node();
+
+    /**
+     * The number of listeners
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Create a new ConfigListeners
+     *
+     * @since 5.1.0
+     */
+    public ConfigListeners() {
+    }
+
+    /**
+     * Add a listener
+     *
+     * @param pattern  The pattern of the paths to listen to
+     * @param listener The listener to add
+     *
+     * @since 5.1.0
+     */
+    public void add(@NotNull String pattern, @NotNull ConfigListener listener) {
+        this.add(pattern.isEmpty() ? null : ConfigPath.of(pattern), listener);
+    }
+
+    /**
+     * Add a listener
+     *
+     * @param pattern  The pattern of the paths to listen to or null for every path
+     * @param listener The listener to add
+     *
+     * @since 5.1.0
+     */
+    public void add(@Nullable ConfigPath pattern, @NotNull ConfigListener listener) {
+        synchronized (this.root) {
+            Node node = this.find(pattern, true);
+            assert node != null;
+
+            node.listeners.add(listener);
+            this.size.incrementAndGet();
+        }
+    }
+
+    /**
+     * Remove a listener
+     *
+     * @param pattern  The pattern the listener was added with
+     * @param listener The listener to remove
+     *
+     * @return If the listener was removed
+     *
+     * @since 5.1.0
+     */
+    public boolean remove(@NotNull String pattern, @NotNull ConfigListener listener) {
+        return this.remove(pattern.isEmpty() ? null : ConfigPath.of(pattern), listener);
+    }
+
+    /**
+     * Remove a listener
+     *
+     * @param pattern  The pattern the listener was added with or null for every path
+     * @param listener The listener to remove
+     *
+     * @return If the listener was removed
+     *
+     * @since 5.1.0
+     */
+    public boolean remove(@Nullable ConfigPath pattern, @NotNull ConfigListener listener) {
+        synchronized (this.root) {
+            Node node = this.find(pattern, false);
+            if (node != null && node.listeners.remove(listener)) {
+                this.size.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Get if there are no listeners
+     *
+     * @return If there are no listeners
+     *
+     * @since 5.1.0
+     */
+    public boolean isEmpty() {
+        return this.size.get() == 0;
+    }
+
+    /**
+     * Find the node of a pattern
+     *
+     * @param path   The pattern to find or null for the root
+     * @param create If missing nodes should be created
+     *
+     * @return The node of the pattern or null if it does not exist
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable Node find(@Nullable ConfigPath path, boolean create) {
+        Node node = this.root;
+        if (path == null) {
+            return node;
+        }
+
+        for (int i = 0; i < path.getSize(); i++) {
+            String key = path.getKey(i);
+
+            Node next;
+            if (key.equals(WILDCARD)) {
+                next = node.wildcard;
+                if (next == null && create) {
+                    next = new Node();
+                    node.wildcard = next;
+                }
+            } else {
+                next = node.children.get(key);
+                if (next == null && create) {
+                    next = new Node();
+                    node.children.put(key, next);
+                }
+            }
+
+            if (next == null) {
+                return null;
+            }
+            node = next;
+        }
+
+        return node;
+    }
+
+    /**
+     * Call the listeners matching a change
+     *
+     * @param change The change
+     *
+     * @since 5.1.0
+     */
+    public void dispatch(@NotNull ConfigChange change) {
+        if (this.isEmpty()) {
+            return;
+        }
+
+        this.dispatch(this.root, change.getPath().isEmpty() ? null : ConfigPath.compile(change.getPath()), 0, change);
+    }
+
+    /**
+     * Call the listeners of a node and the nodes under it matching a change
+     *
+     * @param node   The node to start at
+     * @param path   The path of the change or null for the root
+     * @param depth  The segment of the path the node is at
+     * @param change The change
+     *
+     * @since 5.1.0
+     */
+    protected void dispatch(@NotNull Node node, @Nullable ConfigPath path, int depth, @NotNull ConfigChange change) {
+        for (ConfigListener listener : node.listeners) {
+            listener.onChange(change);
+        }
+
+        if (path == null || depth >= path.getSize()) {
+            return;
+        }
+
+        Node child = node.children.get(path.getKey(depth));
+        if (child != null) {
+            this.dispatch(child, path, depth + 1, change);
+        }
+
+        Node wildcard = node.wildcard;
+        if (wildcard != null) {
+            this.dispatch(wildcard, path, depth + 1, change);
+        }
+    }
+
+    /**
+     * Call the listeners matching a change and the listeners of every path under it
+     * <p>
+     * Used when a whole subtree may have changed, this visits the nodes along the path and then every node under it
+     *
+     * @param path   The path of the change or null for the root
+     * @param change The change
+     *
+     * @since 5.1.0
+     */
+    public void dispatchTree(@Nullable ConfigPath path, @NotNull ConfigChange change) {
+        if (this.isEmpty()) {
+            return;
+        }
+
+        this.dispatchTree(this.root, path, 0, change);
+    }
+
+    /**
+     * Call the listeners of a node matching a change, and every listener under it once the end of the path is reached
+     *
+     * @param node   The node to start at
+     * @param path   The path of the change or null for the root
+     * @param depth  The segment of the path the node is at
+     * @param change The change
+     *
+     * @since 5.1.0
+     */
+    protected void dispatchTree(@NotNull Node node, @Nullable ConfigPath path, int depth, @NotNull ConfigChange change) {
+        for (ConfigListener listener : node.listeners) {
+            listener.onChange(change);
+        }
+
+        if (path == null || depth >= path.getSize()) {
+            for (Node child : node.children.values()) {
+                this.dispatchTree(child, null, 0, change);
+            }
+
+            Node wildcard = node.wildcard;
+            if (wildcard != null) {
+                this.dispatchTree(wildcard, null, 0, change);
+            }
+            return;
+        }
+
+        Node child = node.children.get(path.getKey(depth));
+        if (child != null) {
+            this.dispatchTree(child, path, depth + 1, change);
+        }
+
+        Node wildcard = node.wildcard;
+        if (wildcard != null) {
+            this.dispatchTree(wildcard, path, depth + 1, change);
+        }
+    }
+
+    /**
+     * Call the listeners matching an added value
+     *
+     * @param path  The path of the value
+     * @param value The new value
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void added(@NotNull String path, @NotNull ParsedPrimitive value) {
+        this.dispatch(new ConfigChange(path, null, value.get()));
+    }
+
+    /**
+     * Call the listeners matching a removed value
+     *
+     * @param path     The path of the value
+     * @param oldValue The old value
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void removed(@NotNull String path, @NotNull ParsedPrimitive oldValue) {
+        this.dispatch(new ConfigChange(path, oldValue.get(), null));
+    }
+
+    /**
+     * Call the listeners matching a changed value
+     *
+     * @param path     The path of the value
+     * @param oldValue The old value
+     * @param newValue The new value
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void changed(@NotNull String path, @NotNull ParsedPrimitive oldValue, @NotNull ParsedPrimitive newValue) {
+        this.dispatch(new ConfigChange(path, oldValue.get(), newValue.get()));
+    }
+}
\ No newline at end of file
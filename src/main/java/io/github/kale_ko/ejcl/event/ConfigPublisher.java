@@ -0,0 +1,291 @@
+package io.github.kale_ko.ejcl.event;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A publisher of the changes to a config
+ * <p>
+ * Changes are never queued without bound, while a subscriber is behind only the latest change per path is kept (Keeping the value from before the first missed change as the old value).
+ * Changes are delivered on the executor so the thread making a change never waits on subscribers.
+ * <p>
+ * The publisher only listens to the config while it has subscribers and never completes
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ConfigPublisher implements Flow.Publisher<ConfigChange>, ConfigListener {
+    /**
+     * The listeners this publisher adds itself to
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ConfigListeners listeners;
+
+    /**
+     * The pattern of the paths to publish
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull String pattern;
+
+    /**
+     * The executor to deliver changes on
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Executor executor;
+
+    /**
+     * The current subscriptions
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull List<ConflatingSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create a new ConfigPublisher
+     *
+     * @param listeners The listeners to add this publisher to
+     * @param pattern   The pattern of the paths to publish, see {@link ConfigListeners}
+     * @param executor  The executor to deliver changes on
+     *
+     * @since 5.1.0
+     */
+    public ConfigPublisher(@NotNull ConfigListeners listeners, @NotNull String pattern, @NotNull Executor executor) {
+        this.listeners = listeners;
+
+        this.pattern = pattern;
+        this.executor = executor;
+    }
+
+    /**
+     * Add a subscriber
+     *
+     * @param subscriber The subscriber to add
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConfigChange> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        ConflatingSubscription subscription = new ConflatingSubscription(this, subscriber);
+        synchronized (this.subscriptions) {
+            if (this.subscriptions.isEmpty()) {
+                this.listeners.add(this.pattern, this);
+            }
+            this.subscriptions.add(subscription);
+        }
+
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Remove a subscription
+     *
+     * @param subscription The subscription to remove
+     *
+     * @since 5.1.0
+     */
+    protected void remove(@NotNull ConflatingSubscription subscription) {
+        synchronized (this.subscriptions) {
+            if (this.subscriptions.remove(subscription) && this.subscriptions.isEmpty()) {
+                this.listeners.remove(this.pattern, this);
+            }
+        }
+    }
+
+    /**
+     * Pass a change to every subscription
+     *
+     * @param change The change
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void onChange(@NotNull ConfigChange change) {
+        for (ConflatingSubscription subscription : this.subscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    /**
+     * A subscription that keeps only the latest change per path
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    protected static class ConflatingSubscription implements Flow.Subscription {
+        /**
+         * The publisher of this subscription
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull ConfigPublisher publisher;
+
+        /**
+         * The subscriber of this subscription
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull Flow.Subscriber<? super ConfigChange> subscriber;
+
+        /**
+         * The changes waiting to be delivered by path
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull Map<String, ConfigChange> pending = new LinkedHashMap<>();
+
+        /**
+         * The number of changes requested and not yet delivered
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull AtomicLong requested = new AtomicLong();
+
+        /**
+         * The number of times delivery was scheduled since it last finished
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull AtomicInteger scheduled = new AtomicInteger();
+
+        /**
+         * If this subscription is cancelled
+         *
+         * @since 5.1.0
+         */
+        protected volatile boolean cancelled = false;
+
+        /**
+         * Create a new ConflatingSubscription
+         *
+         * @param publisher  The publisher of this subscription
+         * @param subscriber The subscriber of this subscription
+         *
+         * @since 5.1.0
+         */
+        protected ConflatingSubscription(@NotNull ConfigPublisher publisher, @NotNull Flow.Subscriber<? super ConfigChange> subscriber) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Add a change to be delivered, replacing an undelivered change to the same path
+         *
+         * @param change The change
+         *
+         * @since 5.1.0
+         */
+        protected void offer(@NotNull ConfigChange change) {
+            if (this.cancelled) {
+                return;
+            }
+
+            synchronized (this.pending) {
+                ConfigChange previous = this.pending.get(change.getPath());
+                this.pending.put(change.getPath(), previous != null ? new ConfigChange(change.getPath(), previous.getOldValue(), change.getNewValue()) : change);
+            }
+
+            this.schedule();
+        }
+
+        /**
+         * Request more changes
+         *
+         * @param n The number of changes to request
+         *
+         * @since 5.1.0
+         */
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                this.cancel();
+                this.subscriber.onError(new IllegalArgumentException("Requested " + n + " changes, must be positive"));
+                return;
+            }
+
+            this.requested.getAndUpdate(requested -> requested + n < 0 ? Long.MAX_VALUE : requested + n);
+
+            this.schedule();
+        }
+
+        /**
+         * Cancel this subscription
+         *
+         * @since 5.1.0
+         */
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+
+            this.publisher.remove(this);
+
+            synchronized (this.pending) {
+                this.pending.clear();
+            }
+        }
+
+        /**
+         * Schedule delivery on the executor if it is not already scheduled
+         *
+         * @since 5.1.0
+         */
+        protected void schedule() {
+            if (this.scheduled.getAndIncrement() == 0) {
+                try {
+                    this.publisher.executor.execute(this::deliver);
+                } catch (RejectedExecutionException e) {
+                    this.cancel();
+                    this.subscriber.onError(e);
+                }
+            }
+        }
+
+        /**
+         * Deliver changes while there are changes and demand
+         *
+         * @since 5.1.0
+         */
+        protected void deliver() {
+            int missed = 1;
+            do {
+                while (!this.cancelled && this.requested.get() > 0) {
+                    ConfigChange change;
+                    synchronized (this.pending) {
+                        Iterator<ConfigChange> iterator = this.pending.values().iterator();
+                        if (!iterator.hasNext()) {
+                            break;
+                        }
+                        change = iterator.next();
+                        iterator.remove();
+                    }
+
+                    if (this.requested.get() != Long.MAX_VALUE) {
+                        this.requested.decrementAndGet();
+                    }
+
+                    try {
+                        this.subscriber.onNext(change);
+                    } catch (RuntimeException e) {
+                        this.cancel();
+                    }
+                }
+
+                missed = this.scheduled.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+/**
+ * Contains classes for listening to config changes
+ *
+ * @since 5.1.0
+ */
+package io.github.kale_ko.ejcl.event;
\ No newline at end of file
@@ -0,0 +1,23 @@
+package io.github.kale_ko.ejcl.exception.mysql;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Thrown instead of waiting when the server could not be reached and a reconnect is scheduled
+ * <p>
+ * This is a {@link MaximumReconnectsException} so code written for the old blocking reconnect still catches it
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class CircuitOpenException extends MaximumReconnectsException {
+    /**
+     * Create a new CircuitOpenException
+     *
+     * @param retryIn How long until the next reconnect in milliseconds or 0 if it is running
+     * @param cause   The exception from the last reconnect or null
+     */
+    public CircuitOpenException(long retryIn, @Nullable Exception cause) {
+        super(retryIn > 0 ? "Circuit is open: Reconnecting in " + retryIn + "ms" : "Circuit is open: Reconnecting now", cause);
+    }
+}
\ No newline at end of file
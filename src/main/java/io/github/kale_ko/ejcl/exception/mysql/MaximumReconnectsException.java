@@ -1,11 +1,12 @@
 package io.github.kale_ko.ejcl.exception.mysql;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Thrown when the too many automatic reconnects are triggered in a certain time period
  *
- * @version 3.4.0
+ * @version 5.1.0
  * @since 3.4.0
  */
 public class MaximumReconnectsException extends RuntimeException {
@@ -24,4 +25,16 @@ public class MaximumReconnectsException extends RuntimeException {
     public MaximumReconnectsException(@NotNull Exception cause) {
         super("Maximum reconnects reached:", cause);
     }
+
+    /**
+     * Create a new MaximumReconnectsException
+     *
+     * @param message The message of the exception
+     * @param cause   The cause of the exception or null
+     *
+     * @since 5.1.0
+     */
+    protected MaximumReconnectsException(@NotNull String message, @Nullable Exception cause) {
+        super(message, cause);
+    }
 }
\ No newline at end of file
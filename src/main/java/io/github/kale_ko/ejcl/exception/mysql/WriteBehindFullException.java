@@ -0,0 +1,29 @@
+package io.github.kale_ko.ejcl.exception.mysql;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thrown when a value can not be queued because the write-behind queue is full
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class WriteBehindFullException extends RuntimeException {
+    /**
+     * Create a new WriteBehindFullException
+     *
+     * @param size The size of the queue
+     */
+    public WriteBehindFullException(int size) {
+        super("Write-behind queue is full: " + size + " values are waiting to be written");
+    }
+
+    /**
+     * Create a new WriteBehindFullException
+     *
+     * @param cause The cause of the exception
+     */
+    public WriteBehindFullException(@NotNull Exception cause) {
+        super("Write-behind queue is full:", cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,239 @@
+package io.github.kale_ko.ejcl.file;
+
+import io.github.kale_ko.ejcl.IORunnable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Coalesces bursts of save requests into a single save
+ * <p>
+ * A save runs once no request has been made for the delay, or once the max delay has passed since the first request, whichever is first.
+ * The scheduler only times saves, they run on the executor so a slow write does not hold up other scheduled tasks.
+ * The save must be safe to run while the data is being changed on other threads.
+ * An error from a scheduled save is thrown by the next {@link #flush()}, which also waits for a scheduled save that is already running.
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class AutoSaver {
+    /**
+     * The save to run
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull IORunnable save;
+
+    /**
+     * The time without requests before saving in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long delay;
+
+    /**
+     * The most time after the first request before saving in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long maxDelay;
+
+    /**
+     * The scheduler to run saves on
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ScheduledExecutorService scheduler;
+
+    /**
+     * The executor to run saves on
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Executor executor;
+
+    /**
+     * If a save is pending
+     *
+     * @since 5.1.0
+     */
+    protected boolean pending = false;
+
+    /**
+     * Incremented every time a pending save is run or flushed so stale scheduled runs are ignored
+     *
+     * @since 5.1.0
+     */
+    protected int generation = 0;
+
+    /**
+     * When the first request of the pending save was made
+     *
+     * @since 5.1.0
+     */
+    protected long firstRequest = 0;
+
+    /**
+     * When the last request of the pending save was made
+     *
+     * @since 5.1.0
+     */
+    protected long lastRequest = 0;
+
+    /**
+     * If a scheduled save is running
+     *
+     * @since 5.1.0
+     */
+    protected boolean running = false;
+
+    /**
+     * The error from the last scheduled save or null
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable Exception error = null;
+
+    /**
+     * Create a new AutoSaver
+     *
+     * @param save      The save to run
+     * @param delay     The time without requests before saving
+     * @param maxDelay  The most time after the first request before saving
+     * @param scheduler The scheduler to time saves on
+     * @param executor  The executor to run saves on
+     *
+     * @since 5.1.0
+     */
+    public AutoSaver(@NotNull IORunnable save, @NotNull Duration delay, @NotNull Duration maxDelay, @NotNull ScheduledExecutorService scheduler, @NotNull Executor executor) {
+        this.save = save;
+
+        this.delay = delay.toNanos();
+        this.maxDelay = Math.max(maxDelay.toNanos(), this.delay);
+
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+
+    /**
+     * Request a save
+     *
+     * @since 5.1.0
+     */
+    public synchronized void request() {
+        long now = System.nanoTime();
+        this.lastRequest = now;
+
+        if (!this.pending) {
+            this.pending = true;
+            this.firstRequest = now;
+
+            this.schedule(this.generation, this.delay);
+        }
+    }
+
+    /**
+     * Schedule a run of the pending save on the executor
+     *
+     * @param generation The generation the run is for
+     * @param wait       The time to wait before running in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected void schedule(int generation, long wait) {
+        this.scheduler.schedule(() -> this.executor.execute(() -> this.run(generation)), wait, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Run the pending save if it is due or schedule it again for when it is
+     *
+     * @param generation The generation this run was scheduled for
+     *
+     * @since 5.1.0
+     */
+    protected void run(int generation) {
+        synchronized (this) {
+            if (!this.pending || generation != this.generation) {
+                return;
+            }
+
+            long wait = Math.min(this.lastRequest + this.delay, this.firstRequest + this.maxDelay) - System.nanoTime();
+            if (wait > 0) {
+                this.schedule(generation, wait);
+                return;
+            }
+
+            this.pending = false;
+            this.generation++;
+            this.running = true;
+        }
+
+        Exception error = null;
+        try {
+            this.save.run();
+        } catch (IOException | RuntimeException e) {
+            error = e;
+        } finally {
+            synchronized (this) {
+                this.running = false;
+                if (error != null) {
+                    this.error = error;
+                }
+
+                this.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Wait for a running scheduled save and then run the pending save now if there is one
+     *
+     * @throws IOException On save error, or the error from the last scheduled save if there was no pending save
+     * @since 5.1.0
+     */
+    public void flush() throws IOException {
+        boolean pending;
+        Exception error;
+        synchronized (this) {
+            while (this.running) {
+                try {
+                    this.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a scheduled save");
+                }
+            }
+
+            pending = this.pending;
+            error = this.error;
+
+            this.pending = false;
+            this.generation++;
+            this.error = null;
+        }
+
+        if (pending) {
+            this.save.run();
+        } else if (error instanceof IOException) {
+            throw (IOException) error;
+        } else if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+    }
+
+    /**
+     * Get if a save is pending
+     *
+     * @return If a save is pending
+     *
+     * @since 5.1.0
+     */
+    public synchronized boolean isPending() {
+        return this.pending;
+    }
+}
\ No newline at end of file
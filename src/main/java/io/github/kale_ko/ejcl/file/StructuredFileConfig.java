@@ -1,5 +1,7 @@
 package io.github.kale_ko.ejcl.file;
 
+import io.github.kale_ko.bjsl.elements.ParsedElement;
+import io.github.kale_ko.ejcl.ConfigExecutors;
 import io.github.kale_ko.ejcl.StructuredConfig;
 import io.github.kale_ko.ejcl.exception.ConfigClosedException;
 import io.github.kale_ko.ejcl.exception.ConfigNotLoadedException;
@@ -7,14 +9,16 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A Structured File Config for storing data in a file
  *
  * @param <T> The type of the data being stored
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 1.0.0
  */
 public abstract class StructuredFileConfig<T> extends StructuredConfig<T> {
@@ -39,6 +43,20 @@ public abstract class StructuredFileConfig<T> extends StructuredConfig<T> {
      */
     protected boolean closed = false;
 
+    /**
+     * The saver coalescing saves or null if saves are written immediately
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable AutoSaver autoSaver;
+
+    /**
+     * The data to write on the next automatic save, taken on the thread that requested it
+     *
+     * @since 5.1.0
+     */
+    protected volatile @Nullable ParsedElement snapshot = null;
+
     /**
      * Create a new FileConfig
      *
@@ -61,9 +79,26 @@ public abstract class StructuredFileConfig<T> extends StructuredConfig<T> {
      * @since 5.0.0
      */
     protected StructuredFileConfig(@NotNull Class<T> clazz, @NotNull Path file, boolean supportsArrays) {
+        this(clazz, file, supportsArrays, null, Duration.ZERO);
+    }
+
+    /**
+     * Create a new FileConfig
+     *
+     * @param clazz            The class of the data being stored
+     * @param file             The file where data is being stored
+     * @param supportsArrays   If the config supports storing arrays
+     * @param autoSaveDelay    The time without changes before automatically saving or null to save immediately
+     * @param autoSaveMaxDelay The most time after a change before automatically saving
+     *
+     * @since 5.1.0
+     */
+    protected StructuredFileConfig(@NotNull Class<T> clazz, @NotNull Path file, boolean supportsArrays, @Nullable Duration autoSaveDelay, @NotNull Duration autoSaveMaxDelay) {
         super(clazz, supportsArrays);
 
         this.file = file;
+
+        this.autoSaver = autoSaveDelay != null ? new AutoSaver(this::saveNow, autoSaveDelay, autoSaveMaxDelay, ConfigExecutors.getScheduler(), ConfigExecutors.getDefault()) : null;
     }
 
     /**
@@ -128,6 +163,9 @@ public abstract class StructuredFileConfig<T> extends StructuredConfig<T> {
 
     /**
      * Save the config to file
+     * <p>
+     * If automatic saving is enabled the save is only scheduled, see {@link #flush()}.
+     * The data is still converted on the calling thread so later changes to it are not saved until the next save.
      *
      * @throws IOException On save error
      * @since 1.0.0
@@ -137,18 +175,89 @@ public abstract class StructuredFileConfig<T> extends StructuredConfig<T> {
         if (this.closed) {
             throw new ConfigClosedException();
         }
-        if (this.config == null) {
+        T config = this.config;
+        if (config == null) {
             throw new ConfigNotLoadedException();
         }
 
+        if (this.autoSaver != null) {
+            this.requestSave(config);
+        } else {
+            this.saveNow();
+        }
+    }
+
+    /**
+     * Save the config to file now
+     *
+     * @throws IOException On save error
+     * @since 5.1.0
+     */
+    protected void saveNow() throws IOException {
+        ParsedElement snapshot = this.snapshot;
+        if (snapshot == null) {
+            T config = this.config;
+            if (config == null) {
+                throw new ConfigNotLoadedException();
+            }
+
+            snapshot = this.toElement(config);
+        }
+
         synchronized (SAVELOAD_LOCK) {
             if (!Files.exists(this.file)) {
                 Files.createFile(this.file);
             }
-            Files.write(this.file, this.saveRaw(), StandardOpenOption.TRUNCATE_EXISTING);
+            Files.write(this.file, this.saveRaw(snapshot), StandardOpenOption.TRUNCATE_EXISTING);
         }
     }
 
+    /**
+     * Take a snapshot of data and schedule an automatic save of it
+     *
+     * @param config The data to save
+     *
+     * @since 5.1.0
+     */
+    protected void requestSave(@NotNull T config) {
+        if (this.autoSaver == null) {
+            return;
+        }
+
+        this.snapshot = this.toElement(config);
+        this.autoSaver.request();
+    }
+
+    /**
+     * Write a pending automatic save now
+     * <p>
+     * This should be called before shutting down, it does nothing if automatic saving is not enabled
+     *
+     * @throws IOException On save error
+     * @since 5.1.0
+     */
+    public void flush() throws IOException {
+        if (this.autoSaver != null) {
+            this.autoSaver.flush();
+        }
+    }
+
+    /**
+     * Set the data being stored
+     * <p>
+     * If automatic saving is enabled a save is scheduled
+     *
+     * @param value The data to be stored
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void set(@NotNull T value) {
+        super.set(value);
+
+        this.requestSave(value);
+    }
+
     /**
      * Save the config to bytes
      *
@@ -157,7 +266,26 @@ public abstract class StructuredFileConfig<T> extends StructuredConfig<T> {
      * @throws IOException On save error
      * @since 1.0.0
      */
-    protected abstract byte @NotNull [] saveRaw() throws IOException;
+    protected byte @NotNull [] saveRaw() throws IOException {
+        T config = this.config;
+        if (config == null) {
+            return this.create();
+        }
+
+        return this.saveRaw(this.toElement(config));
+    }
+
+    /**
+     * Save a snapshot of the config to bytes
+     *
+     * @param element The snapshot to save
+     *
+     * @return The config bytes
+     *
+     * @throws IOException On save error
+     * @since 5.1.0
+     */
+    protected abstract byte @NotNull [] saveRaw(@NotNull ParsedElement element) throws IOException;
 
     /**
      * Close the config
@@ -171,7 +299,11 @@ public abstract class StructuredFileConfig<T> extends StructuredConfig<T> {
             throw new ConfigClosedException();
         }
 
-        this.closed = true;
+        try {
+            this.flush();
+        } finally {
+            this.closed = true;
+        }
     }
 
     /**
@@ -1,6 +1,10 @@
 package io.github.kale_ko.ejcl.file;
 
+import io.github.kale_ko.bjsl.elements.ParsedObject;
+import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
 import io.github.kale_ko.bjsl.processor.ObjectProcessor;
+import io.github.kale_ko.ejcl.ConfigExecutors;
+import io.github.kale_ko.ejcl.ConfigPath;
 import io.github.kale_ko.ejcl.UnstructuredConfig;
 import io.github.kale_ko.ejcl.exception.ConfigClosedException;
 import io.github.kale_ko.ejcl.exception.ConfigNotLoadedException;
@@ -8,12 +12,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An Unstructured File Config for storing data in a file
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 3.0.0
  */
 public abstract class UnstructuredFileConfig extends UnstructuredConfig {
@@ -38,6 +45,48 @@ public abstract class UnstructuredFileConfig extends UnstructuredConfig {
      */
     protected boolean closed = false;
 
+    /**
+     * The data that was last saved to file
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ParsedObject savedConfig = null;
+
+    /**
+     * The number of changes that had been made to the data when it was last saved to file
+     *
+     * @since 5.1.0
+     */
+    protected long savedModifications = 0;
+
+    /**
+     * The structural hash of the data that was last saved to file
+     *
+     * @since 5.1.0
+     */
+    protected long savedHash = 0;
+
+    /**
+     * The modification time of the file after it was last saved or null if it has not been saved
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable FileTime savedTime = null;
+
+    /**
+     * The size of the file after it was last saved
+     *
+     * @since 5.1.0
+     */
+    protected long savedSize = -1;
+
+    /**
+     * The saver coalescing saves or null if saves are written immediately
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable AutoSaver autoSaver;
+
     /**
      * Create a new FileConfig
      *
@@ -47,9 +96,26 @@ public abstract class UnstructuredFileConfig extends UnstructuredConfig {
      * @since 3.0.0
      */
     protected UnstructuredFileConfig(@NotNull Path file, @NotNull ObjectProcessor processor) {
-        super(processor);
+        this(file, processor, false, null, Duration.ZERO);
+    }
+
+    /**
+     * Create a new FileConfig
+     *
+     * @param file             The file where data is being stored
+     * @param processor        The ObjectProcessor to use for serialization/deserialization
+     * @param threadSafe       If the config can be read and written from multiple threads, always true if automatic saving is enabled because saves run on another thread
+     * @param autoSaveDelay    The time without changes before automatically saving or null to save immediately
+     * @param autoSaveMaxDelay The most time after a change before automatically saving
+     *
+     * @since 5.1.0
+     */
+    protected UnstructuredFileConfig(@NotNull Path file, @NotNull ObjectProcessor processor, boolean threadSafe, @Nullable Duration autoSaveDelay, @NotNull Duration autoSaveMaxDelay) {
+        super(processor, threadSafe || autoSaveDelay != null);
 
         this.file = file;
+
+        this.autoSaver = autoSaveDelay != null ? new AutoSaver(this::saveNow, autoSaveDelay, autoSaveMaxDelay, ConfigExecutors.getScheduler(), ConfigExecutors.getDefault()) : null;
     }
 
     /**
@@ -114,6 +180,9 @@ public abstract class UnstructuredFileConfig extends UnstructuredConfig {
 
     /**
      * Save the config to file
+     * <p>
+     * Nothing is written if the data has not changed since it was last saved and the file has not been changed by something else.
+     * If automatic saving is enabled the save is only scheduled, see {@link #flush()}.
      *
      * @throws IOException On save error
      * @since 3.0.0
@@ -127,11 +196,119 @@ public abstract class UnstructuredFileConfig extends UnstructuredConfig {
             throw new ConfigNotLoadedException();
         }
 
+        if (this.autoSaver != null) {
+            this.autoSaver.request();
+        } else {
+            this.saveNow();
+        }
+    }
+
+    /**
+     * Save the config to file now
+     * <p>
+     * Nothing is written if the data has not changed since it was last saved and the file has not been changed by something else.
+     * Data that was changed back to what was saved is found by its structural hash, which only has to be recomputed along the paths that changed.
+     * The data is serialized under the read lock and written to the file after it is released, so writers are not blocked by the disk
+     *
+     * @throws IOException On save error
+     * @since 5.1.0
+     */
+    protected void saveNow() throws IOException {
+        if (this.config == null) {
+            throw new ConfigNotLoadedException();
+        }
+
         synchronized (SAVELOAD_LOCK) {
+            boolean fileUnchanged = this.isFileUnchanged();
+
+            ParsedObject config;
+            long modifications;
+            long hash;
+            byte[] data;
+
+            long stamp = this.lock != null ? this.lock.readLock() : 0;
+            try {
+                config = this.config;
+                modifications = this.modifications;
+
+                if (config == this.savedConfig && fileUnchanged) {
+                    if (modifications == this.savedModifications) {
+                        return;
+                    }
+
+                    if (this.hashes.hash(config) == this.savedHash) {
+                        this.savedModifications = modifications;
+                        return;
+                    }
+                }
+
+                hash = this.hashes.hash(config);
+                data = this.saveRaw();
+            } finally {
+                if (this.lock != null) {
+                    this.lock.unlockRead(stamp);
+                }
+            }
+
             if (!Files.exists(this.file)) {
                 Files.createFile(this.file);
             }
-            Files.write(this.file, this.saveRaw(), StandardOpenOption.TRUNCATE_EXISTING);
+            Files.write(this.file, data, StandardOpenOption.TRUNCATE_EXISTING);
+
+            this.savedConfig = config;
+            this.savedModifications = modifications;
+            this.savedHash = hash;
+            this.savedTime = Files.getLastModifiedTime(this.file);
+            this.savedSize = Files.size(this.file);
+        }
+    }
+
+    /**
+     * Get if the file is the same as when it was last saved
+     *
+     * @return If the file exists and has the same modification time and size as after it was last saved
+     *
+     * @throws IOException On read error
+     * @since 5.1.0
+     */
+    protected boolean isFileUnchanged() throws IOException {
+        if (this.savedTime == null || !Files.exists(this.file)) {
+            return false;
+        }
+
+        return this.savedTime.equals(Files.getLastModifiedTime(this.file)) && this.savedSize == Files.size(this.file);
+    }
+
+    /**
+     * Write a pending automatic save now
+     * <p>
+     * This should be called before shutting down, it does nothing if automatic saving is not enabled
+     *
+     * @throws IOException On save error
+     * @since 5.1.0
+     */
+    public void flush() throws IOException {
+        if (this.autoSaver != null) {
+            this.autoSaver.flush();
+        }
+    }
+
+    /**
+     * Set a path being stored to a primitive
+     * <p>
+     * If automatic saving is enabled a save is scheduled
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    @Override
+    protected void setPrimitive(@NotNull ConfigPath path, @NotNull ParsedPrimitive value) {
+        super.setPrimitive(path, value);
+
+        if (this.autoSaver != null) {
+            this.autoSaver.request();
         }
     }
 
@@ -157,7 +334,11 @@ public abstract class UnstructuredFileConfig extends UnstructuredConfig {
             throw new ConfigClosedException();
         }
 
-        this.closed = true;
+        try {
+            this.flush();
+        } finally {
+            this.closed = true;
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.github.kale_ko.ejcl.file.bjsl;
 
+import io.github.kale_ko.bjsl.elements.ParsedElement;
 import io.github.kale_ko.bjsl.parsers.JsonParser;
 import io.github.kale_ko.bjsl.parsers.Parser;
 import io.github.kale_ko.bjsl.parsers.SmileParser;
@@ -9,14 +10,16 @@ import io.github.kale_ko.ejcl.exception.ConfigClosedException;
 import io.github.kale_ko.ejcl.file.StructuredFileConfig;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A Structured BJSL File Config for storing BJSL data in a File
  *
  * @param <T> The type of the data being stored
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 2.0.0
  */
 public class StructuredBJSLFileConfig<T> extends StructuredFileConfig<T> {
@@ -45,7 +48,23 @@ public class StructuredBJSLFileConfig<T> extends StructuredFileConfig<T> {
      * @since 2.0.0
      */
     protected StructuredBJSLFileConfig(@NotNull Class<T> clazz, @NotNull Path file, @NotNull Parser parser, @NotNull ObjectProcessor processor) {
-        super(clazz, file, true);
+        this(clazz, file, parser, processor, null, Duration.ZERO);
+    }
+
+    /**
+     * Create a new StructuredBJSLFileConfig
+     *
+     * @param clazz            The class of the data being stored
+     * @param file             The file where data is being stored
+     * @param parser           The parser/processor to use for parsing and serialization
+     * @param processor        The ObjectProcessor to use for serialization/deserialization
+     * @param autoSaveDelay    The time without changes before automatically saving or null to save immediately
+     * @param autoSaveMaxDelay The most time after a change before automatically saving
+     *
+     * @since 5.1.0
+     */
+    protected StructuredBJSLFileConfig(@NotNull Class<T> clazz, @NotNull Path file, @NotNull Parser parser, @NotNull ObjectProcessor processor, @Nullable Duration autoSaveDelay, @NotNull Duration autoSaveMaxDelay) {
+        super(clazz, file, true, autoSaveDelay, autoSaveMaxDelay);
 
         this.parser = parser;
         this.processor = processor;
@@ -83,7 +102,13 @@ public class StructuredBJSLFileConfig<T> extends StructuredFileConfig<T> {
         }
 
         synchronized (SAVELOAD_LOCK) {
-            this.config = this.processor.toObject(this.parser.toElement(this.loadRaw()), this.clazz);
+            T oldConfig = this.config;
+            ParsedElement element = this.parser.toElement(this.loadRaw());
+            this.config = this.processor.toObject(element, this.clazz);
+
+            if (!this.listeners.isEmpty()) {
+                this.dispatchChanges(oldConfig != null ? this.toElement(oldConfig) : null, element);
+            }
 
             if (save) {
                 this.save();
@@ -92,26 +117,36 @@ public class StructuredBJSLFileConfig<T> extends StructuredFileConfig<T> {
     }
 
     /**
-     * Save the config to bytes
+     * Save a snapshot of the config to bytes
+     *
+     * @param element The snapshot to save
      *
      * @return The config bytes
      *
      * @throws IOException On save error
-     * @since 1.0.0
+     * @since 5.1.0
      */
     @Override
-    protected byte @NotNull [] saveRaw() throws IOException {
-        if (this.config == null) {
-            return this.create();
-        }
+    protected byte @NotNull [] saveRaw(@NotNull ParsedElement element) throws IOException {
+        return this.parser.toBytes(element);
+    }
 
-        return this.parser.toBytes(this.processor.toElement(this.config));
+    /**
+     * Get the ObjectProcessor used to convert the data being stored to and from elements
+     *
+     * @return The ObjectProcessor to use
+     *
+     * @since 5.1.0
+     */
+    @Override
+    protected @NotNull ObjectProcessor getProcessor() {
+        return this.processor;
     }
 
     /**
      * A builder class for creating new {@link io.github.kale_ko.ejcl.file.bjsl.StructuredBJSLFileConfig}s
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder<T> {
@@ -143,6 +178,20 @@ public class StructuredBJSLFileConfig<T> extends StructuredFileConfig<T> {
          */
         protected @NotNull Parser parser;
 
+        /**
+         * The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration autoSaveDelay = null;
+
+        /**
+         * The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration autoSaveMaxDelay = Duration.ofSeconds(10);
+
         /**
          * Create an {@link io.github.kale_ko.ejcl.file.bjsl.StructuredBJSLFileConfig} builder
          *
@@ -293,6 +342,58 @@ public class StructuredBJSLFileConfig<T> extends StructuredFileConfig<T> {
             return this;
         }
 
+        /**
+         * Get the time without changes before automatically saving
+         *
+         * @return The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getAutoSaveDelay() {
+            return this.autoSaveDelay;
+        }
+
+        /**
+         * Set the time without changes before automatically saving
+         * <p>
+         * When set, saves and changes are coalesced into a single write once no changes have been made for this long, call flush before shutting down
+         *
+         * @param autoSaveDelay The time without changes before automatically saving or null to save immediately
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setAutoSaveDelay(@Nullable Duration autoSaveDelay) {
+            this.autoSaveDelay = autoSaveDelay;
+            return this;
+        }
+
+        /**
+         * Get the most time after a change before automatically saving
+         *
+         * @return The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getAutoSaveMaxDelay() {
+            return this.autoSaveMaxDelay;
+        }
+
+        /**
+         * Set the most time after a change before automatically saving
+         *
+         * @param autoSaveMaxDelay The most time after a change before automatically saving
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setAutoSaveMaxDelay(@NotNull Duration autoSaveMaxDelay) {
+            this.autoSaveMaxDelay = autoSaveMaxDelay;
+            return this;
+        }
+
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.file.bjsl.StructuredBJSLFileConfig}
          *
@@ -301,7 +402,7 @@ public class StructuredBJSLFileConfig<T> extends StructuredFileConfig<T> {
          * @since 4.0.0
          */
         public @NotNull StructuredBJSLFileConfig<T> build() {
-            return new StructuredBJSLFileConfig<>(this.clazz, this.file, this.parser, this.processor);
+            return new StructuredBJSLFileConfig<>(this.clazz, this.file, this.parser, this.processor, this.autoSaveDelay, this.autoSaveMaxDelay);
         }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package io.github.kale_ko.ejcl.file.bjsl;
 
+import io.github.kale_ko.bjsl.elements.ParsedObject;
 import io.github.kale_ko.bjsl.parsers.JsonParser;
 import io.github.kale_ko.bjsl.parsers.Parser;
 import io.github.kale_ko.bjsl.parsers.SmileParser;
@@ -9,12 +10,14 @@ import io.github.kale_ko.ejcl.exception.ConfigClosedException;
 import io.github.kale_ko.ejcl.file.UnstructuredFileConfig;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An Unstructured BJSL File Config for storing BJSL data in a File
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 2.0.0
  */
 public class UnstructuredBJSLFileConfig extends UnstructuredFileConfig {
@@ -35,7 +38,23 @@ public class UnstructuredBJSLFileConfig extends UnstructuredFileConfig {
      * @since 2.0.0
      */
     protected UnstructuredBJSLFileConfig(@NotNull Path file, @NotNull Parser parser, @NotNull ObjectProcessor processor) {
-        super(file, processor);
+        this(file, parser, processor, false, null, Duration.ZERO);
+    }
+
+    /**
+     * Create a new UnstructuredBJSLFileConfig
+     *
+     * @param file             The file where data is being stored
+     * @param parser           The parser/processor to use for parsing and serialization
+     * @param processor        The ObjectProcessor to use for serialization/deserialization
+     * @param threadSafe       If the config can be read and written from multiple threads
+     * @param autoSaveDelay    The time without changes before automatically saving or null to save immediately
+     * @param autoSaveMaxDelay The most time after a change before automatically saving
+     *
+     * @since 5.1.0
+     */
+    protected UnstructuredBJSLFileConfig(@NotNull Path file, @NotNull Parser parser, @NotNull ObjectProcessor processor, boolean threadSafe, @Nullable Duration autoSaveDelay, @NotNull Duration autoSaveMaxDelay) {
+        super(file, processor, threadSafe, autoSaveDelay, autoSaveMaxDelay);
 
         this.parser = parser;
     }
@@ -72,7 +91,12 @@ public class UnstructuredBJSLFileConfig extends UnstructuredFileConfig {
         }
 
         synchronized (SAVELOAD_LOCK) {
-            this.config = this.parser.toElement(this.loadRaw()).asObject();
+            ParsedObject oldConfig = this.config;
+            ParsedObject config = this.parser.toElement(this.loadRaw()).asObject();
+            this.setConfig(config);
+
+            this.invalidateBound();
+            this.dispatchChanges(oldConfig, config);
 
             if (save) {
                 this.save();
@@ -100,7 +124,7 @@ public class UnstructuredBJSLFileConfig extends UnstructuredFileConfig {
     /**
      * A builder class for creating new {@link io.github.kale_ko.ejcl.file.bjsl.UnstructuredBJSLFileConfig}s
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder {
@@ -125,6 +149,27 @@ public class UnstructuredBJSLFileConfig extends UnstructuredFileConfig {
          */
         protected @NotNull Parser parser;
 
+        /**
+         * If the config can be read and written from multiple threads
+         *
+         * @since 5.1.0
+         */
+        protected boolean threadSafe = false;
+
+        /**
+         * The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration autoSaveDelay = null;
+
+        /**
+         * The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration autoSaveMaxDelay = Duration.ofSeconds(10);
+
         /**
          * Create an {@link io.github.kale_ko.ejcl.file.bjsl.UnstructuredBJSLFileConfig} builder
          *
@@ -255,6 +300,84 @@ public class UnstructuredBJSLFileConfig extends UnstructuredFileConfig {
             return this;
         }
 
+        /**
+         * Get if the config can be read and written from multiple threads
+         *
+         * @return If the config can be read and written from multiple threads
+         *
+         * @since 5.1.0
+         */
+        public boolean getThreadSafe() {
+            return this.threadSafe;
+        }
+
+        /**
+         * Set if the config can be read and written from multiple threads
+         *
+         * @param threadSafe If the config can be read and written from multiple threads
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull UnstructuredBJSLFileConfig.Builder setThreadSafe(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+            return this;
+        }
+
+        /**
+         * Get the time without changes before automatically saving
+         *
+         * @return The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getAutoSaveDelay() {
+            return this.autoSaveDelay;
+        }
+
+        /**
+         * Set the time without changes before automatically saving
+         * <p>
+         * When set, saves and changes are coalesced into a single write once no changes have been made for this long, call flush before shutting down.
+         * Saves run on a background thread so the config is made thread safe even if {@link #setThreadSafe(boolean)} is false.
+         *
+         * @param autoSaveDelay The time without changes before automatically saving or null to save immediately
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull UnstructuredBJSLFileConfig.Builder setAutoSaveDelay(@Nullable Duration autoSaveDelay) {
+            this.autoSaveDelay = autoSaveDelay;
+            return this;
+        }
+
+        /**
+         * Get the most time after a change before automatically saving
+         *
+         * @return The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getAutoSaveMaxDelay() {
+            return this.autoSaveMaxDelay;
+        }
+
+        /**
+         * Set the most time after a change before automatically saving
+         *
+         * @param autoSaveMaxDelay The most time after a change before automatically saving
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull UnstructuredBJSLFileConfig.Builder setAutoSaveMaxDelay(@NotNull Duration autoSaveMaxDelay) {
+            this.autoSaveMaxDelay = autoSaveMaxDelay;
+            return this;
+        }
+
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.file.bjsl.UnstructuredBJSLFileConfig}
          *
@@ -263,7 +386,7 @@ public class UnstructuredBJSLFileConfig extends UnstructuredFileConfig {
          * @since 4.0.0
          */
         public @NotNull UnstructuredBJSLFileConfig build() {
-            return new UnstructuredBJSLFileConfig(this.file, this.parser, this.processor);
+            return new UnstructuredBJSLFileConfig(this.file, this.parser, this.processor, this.threadSafe, this.autoSaveDelay, this.autoSaveMaxDelay);
         }
     }
 }
\ No newline at end of file
@@ -12,14 +12,16 @@ import io.github.kale_ko.ejcl.file.StructuredFileConfig;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A Simple Structured File Config for storing key/value pairs in a File
  *
  * @param <T> The type of the data being stored
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 3.9.0
  */
 public class StructuredSimpleFileConfig<T> extends StructuredFileConfig<T> {
@@ -40,7 +42,22 @@ public class StructuredSimpleFileConfig<T> extends StructuredFileConfig<T> {
      * @since 2.0.0
      */
     protected StructuredSimpleFileConfig(@NotNull Class<T> clazz, @NotNull Path file, @NotNull ObjectProcessor processor) {
-        super(clazz, file, false);
+        this(clazz, file, processor, null, Duration.ZERO);
+    }
+
+    /**
+     * Create a new StructuredSimpleFileConfig
+     *
+     * @param clazz            The class of the data being stored
+     * @param file             The file where data is being stored
+     * @param processor        The ObjectProcessor to use for serialization/deserialization
+     * @param autoSaveDelay    The time without changes before automatically saving or null to save immediately
+     * @param autoSaveMaxDelay The most time after a change before automatically saving
+     *
+     * @since 5.1.0
+     */
+    protected StructuredSimpleFileConfig(@NotNull Class<T> clazz, @NotNull Path file, @NotNull ObjectProcessor processor, @Nullable Duration autoSaveDelay, @NotNull Duration autoSaveMaxDelay) {
+        super(clazz, file, false, autoSaveDelay, autoSaveMaxDelay);
 
         this.processor = processor;
     }
@@ -150,8 +167,13 @@ public class StructuredSimpleFileConfig<T> extends StructuredFileConfig<T> {
                 PathResolver.updateElement(object, path, element, true);
             }
 
+            T oldConfig = this.config;
             this.config = this.processor.toObject(object, this.clazz);
 
+            if (!this.listeners.isEmpty()) {
+                this.dispatchChanges(oldConfig != null ? this.toElement(oldConfig) : null, object);
+            }
+
             if (save) {
                 this.save();
             }
@@ -159,40 +181,47 @@ public class StructuredSimpleFileConfig<T> extends StructuredFileConfig<T> {
     }
 
     /**
-     * Save the config to bytes
+     * Save a snapshot of the config to bytes
+     *
+     * @param element The snapshot to save
      *
      * @return The config bytes
      *
      * @throws java.io.IOException On save error
-     * @since 1.0.0
+     * @since 5.1.0
      */
     @Override
-    protected byte @NotNull [] saveRaw() throws IOException {
-        if (this.config == null) {
-            return this.create();
-        }
-
-        ParsedObject object = this.processor.toElement(this.config).asObject();
+    protected byte @NotNull [] saveRaw(@NotNull ParsedElement element) throws IOException {
+        ParsedObject object = element.asObject();
 
         StringBuilder data = new StringBuilder();
 
-        for (String key : PathResolver.getKeys(object, false)) {
-            ParsedElement element = PathResolver.resolveElement(object, key);
-            if (element != null) {
-                if (key.contains("=")) {
-                    throw new IllegalArgumentException("Key cannot contain '='");
-                }
-                data.append(key).append("=").append(element.asPrimitive().getType().name()).append("=").append(!element.asPrimitive().isNull() ? element.asPrimitive().get().toString() : "null");
+        PathResolver.walk(object, (key, value) -> {
+            if (key.contains("=")) {
+                throw new IllegalArgumentException("Key cannot contain '='");
             }
-        }
+            data.append(key).append("=").append(value.getType().name()).append("=").append(!value.isNull() ? value.get().toString() : "null");
+        });
 
         return data.toString().getBytes(StandardCharsets.UTF_8);
     }
 
+    /**
+     * Get the ObjectProcessor used to convert the data being stored to and from elements
+     *
+     * @return The ObjectProcessor to use
+     *
+     * @since 5.1.0
+     */
+    @Override
+    protected @NotNull ObjectProcessor getProcessor() {
+        return this.processor;
+    }
+
     /**
      * A builder class for creating new {@link io.github.kale_ko.ejcl.file.simple.StructuredSimpleFileConfig}s
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder<T> {
@@ -217,6 +246,20 @@ public class StructuredSimpleFileConfig<T> extends StructuredFileConfig<T> {
          */
         protected @NotNull Path file;
 
+        /**
+         * The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration autoSaveDelay = null;
+
+        /**
+         * The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration autoSaveMaxDelay = Duration.ofSeconds(10);
+
         /**
          * Create an {@link io.github.kale_ko.ejcl.file.simple.StructuredSimpleFileConfig} builder
          *
@@ -294,6 +337,58 @@ public class StructuredSimpleFileConfig<T> extends StructuredFileConfig<T> {
             return this;
         }
 
+        /**
+         * Get the time without changes before automatically saving
+         *
+         * @return The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getAutoSaveDelay() {
+            return this.autoSaveDelay;
+        }
+
+        /**
+         * Set the time without changes before automatically saving
+         * <p>
+         * When set, saves and changes are coalesced into a single write once no changes have been made for this long, call flush before shutting down
+         *
+         * @param autoSaveDelay The time without changes before automatically saving or null to save immediately
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setAutoSaveDelay(@Nullable Duration autoSaveDelay) {
+            this.autoSaveDelay = autoSaveDelay;
+            return this;
+        }
+
+        /**
+         * Get the most time after a change before automatically saving
+         *
+         * @return The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getAutoSaveMaxDelay() {
+            return this.autoSaveMaxDelay;
+        }
+
+        /**
+         * Set the most time after a change before automatically saving
+         *
+         * @param autoSaveMaxDelay The most time after a change before automatically saving
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setAutoSaveMaxDelay(@NotNull Duration autoSaveMaxDelay) {
+            this.autoSaveMaxDelay = autoSaveMaxDelay;
+            return this;
+        }
+
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.file.simple.StructuredSimpleFileConfig}
          *
@@ -302,7 +397,7 @@ public class StructuredSimpleFileConfig<T> extends StructuredFileConfig<T> {
          * @since 4.0.0
          */
         public @NotNull StructuredSimpleFileConfig<T> build() {
-            return new StructuredSimpleFileConfig<>(this.clazz, this.file, this.processor);
+            return new StructuredSimpleFileConfig<>(this.clazz, this.file, this.processor, this.autoSaveDelay, this.autoSaveMaxDelay);
         }
     }
 }
\ No newline at end of file
@@ -11,13 +11,15 @@ import io.github.kale_ko.ejcl.file.UnstructuredFileConfig;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A Simple Unstructured File Config for storing key/value pairs in a File
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 2.0.0
  */
 public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
@@ -30,7 +32,22 @@ public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
      * @since 2.0.0
      */
     protected UnstructuredSimpleFileConfig(@NotNull Path file, @NotNull ObjectProcessor processor) {
-        super(file, processor);
+        this(file, processor, false, null, Duration.ZERO);
+    }
+
+    /**
+     * Create a new UnstructuredSimpleFileConfig
+     *
+     * @param file             The file where data is being stored
+     * @param processor        The ObjectProcessor to use for serialization/deserialization
+     * @param threadSafe       If the config can be read and written from multiple threads
+     * @param autoSaveDelay    The time without changes before automatically saving or null to save immediately
+     * @param autoSaveMaxDelay The most time after a change before automatically saving
+     *
+     * @since 5.1.0
+     */
+    protected UnstructuredSimpleFileConfig(@NotNull Path file, @NotNull ObjectProcessor processor, boolean threadSafe, @Nullable Duration autoSaveDelay, @NotNull Duration autoSaveMaxDelay) {
+        super(file, processor, threadSafe, autoSaveDelay, autoSaveMaxDelay);
     }
 
     /**
@@ -65,7 +82,7 @@ public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
         }
 
         synchronized (SAVELOAD_LOCK) {
-            this.config = ParsedObject.create();
+            ParsedObject config = ParsedObject.create();
 
             for (String line : new String(this.loadRaw(), StandardCharsets.UTF_8).split("\n")) {
                 line = line.trim();
@@ -135,9 +152,15 @@ public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
                     }
                 }
 
-                this.config.set(path, element);
+                config.set(path, element);
             }
 
+            ParsedObject oldConfig = this.config;
+            this.setConfig(config);
+
+            this.invalidateBound();
+            this.dispatchChanges(oldConfig, config);
+
             if (save) {
                 this.save();
             }
@@ -177,7 +200,7 @@ public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
     /**
      * A builder class for creating new {@link io.github.kale_ko.ejcl.file.simple.UnstructuredSimpleFileConfig}s
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder {
@@ -195,6 +218,27 @@ public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
          */
         protected @NotNull Path file;
 
+        /**
+         * If the config can be read and written from multiple threads
+         *
+         * @since 5.1.0
+         */
+        protected boolean threadSafe = false;
+
+        /**
+         * The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration autoSaveDelay = null;
+
+        /**
+         * The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration autoSaveMaxDelay = Duration.ofSeconds(10);
+
         /**
          * Create an {@link io.github.kale_ko.ejcl.file.simple.UnstructuredSimpleFileConfig} builder
          *
@@ -258,6 +302,83 @@ public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
             return this;
         }
 
+        /**
+         * Get if the config can be read and written from multiple threads
+         *
+         * @return If the config can be read and written from multiple threads
+         *
+         * @since 5.1.0
+         */
+        public boolean getThreadSafe() {
+            return this.threadSafe;
+        }
+
+        /**
+         * Set if the config can be read and written from multiple threads
+         *
+         * @param threadSafe If the config can be read and written from multiple threads
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setThreadSafe(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+            return this;
+        }
+
+        /**
+         * Get the time without changes before automatically saving
+         *
+         * @return The time without changes before automatically saving or null to save immediately
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getAutoSaveDelay() {
+            return this.autoSaveDelay;
+        }
+
+        /**
+         * Set the time without changes before automatically saving
+         * <p>
+         * When set, saves and changes are coalesced into a single write once no changes have been made for this long, call flush before shutting down.
+         * Saves run on a background thread so the config is made thread safe even if {@link #setThreadSafe(boolean)} is false.
+         *
+         * @param autoSaveDelay The time without changes before automatically saving or null to save immediately
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setAutoSaveDelay(@Nullable Duration autoSaveDelay) {
+            this.autoSaveDelay = autoSaveDelay;
+            return this;
+        }
+
+        /**
+         * Get the most time after a change before automatically saving
+         *
+         * @return The most time after a change before automatically saving
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getAutoSaveMaxDelay() {
+            return this.autoSaveMaxDelay;
+        }
+
+        /**
+         * Set the most time after a change before automatically saving
+         *
+         * @param autoSaveMaxDelay The most time after a change before automatically saving
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setAutoSaveMaxDelay(@NotNull Duration autoSaveMaxDelay) {
+            this.autoSaveMaxDelay = autoSaveMaxDelay;
+            return this;
+        }
 
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.file.simple.UnstructuredSimpleFileConfig}
@@ -267,7 +388,7 @@ public class UnstructuredSimpleFileConfig extends UnstructuredFileConfig {
          * @since 4.0.0
          */
         public @NotNull UnstructuredSimpleFileConfig build() {
-            return new UnstructuredSimpleFileConfig(this.file, this.processor);
+            return new UnstructuredSimpleFileConfig(this.file, this.processor, this.threadSafe, this.autoSaveDelay, this.autoSaveMaxDelay);
         }
     }
 }
\ No newline at end of file
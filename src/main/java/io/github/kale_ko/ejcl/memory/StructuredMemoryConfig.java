@@ -1,5 +1,6 @@
 package io.github.kale_ko.ejcl.memory;
 
+import io.github.kale_ko.bjsl.processor.ObjectProcessor;
 import io.github.kale_ko.bjsl.processor.reflection.InitializationUtil;
 import io.github.kale_ko.ejcl.StructuredConfig;
 import java.io.IOException;
@@ -10,10 +11,17 @@ import org.jetbrains.annotations.NotNull;
  *
  * @param <T> The type of the data being stored
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 2.0.0
  */
 public class StructuredMemoryConfig<T> extends StructuredConfig<T> {
+    /**
+     * The ObjectProcessor to use for serialization/deserialization
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ObjectProcessor processor;
+
     /**
      * Create a new StructuredMemoryConfig
      *
@@ -22,8 +30,22 @@ public class StructuredMemoryConfig<T> extends StructuredConfig<T> {
      * @since 2.0.0
      */
     protected StructuredMemoryConfig(@NotNull Class<T> clazz) {
+        this(clazz, new ObjectProcessor.Builder().build());
+    }
+
+    /**
+     * Create a new StructuredMemoryConfig
+     *
+     * @param clazz     The class of the data being stored
+     * @param processor The ObjectProcessor to use for serialization/deserialization
+     *
+     * @since 5.1.0
+     */
+    protected StructuredMemoryConfig(@NotNull Class<T> clazz, @NotNull ObjectProcessor processor) {
         super(clazz, true);
 
+        this.processor = processor;
+
         this.config = InitializationUtil.initialize(clazz);
     }
 
@@ -83,10 +105,22 @@ public class StructuredMemoryConfig<T> extends StructuredConfig<T> {
         return this.config == null;
     }
 
+    /**
+     * Get the ObjectProcessor used to convert the data being stored to and from elements
+     *
+     * @return The ObjectProcessor to use
+     *
+     * @since 5.1.0
+     */
+    @Override
+    protected @NotNull ObjectProcessor getProcessor() {
+        return this.processor;
+    }
+
     /**
      * A builder class for creating new {@link io.github.kale_ko.ejcl.memory.StructuredMemoryConfig}s
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder<T> {
@@ -97,6 +131,13 @@ public class StructuredMemoryConfig<T> extends StructuredConfig<T> {
          */
         protected final @NotNull Class<T> clazz;
 
+        /**
+         * The ObjectProcessor to use for serialization/deserialization
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull ObjectProcessor processor;
+
         /**
          * Create an {@link io.github.kale_ko.ejcl.memory.StructuredMemoryConfig} builder
          *
@@ -106,6 +147,8 @@ public class StructuredMemoryConfig<T> extends StructuredConfig<T> {
          */
         public Builder(@NotNull Class<T> clazz) {
             this.clazz = clazz;
+
+            this.processor = new ObjectProcessor.Builder().build();
         }
 
         /**
@@ -119,6 +162,31 @@ public class StructuredMemoryConfig<T> extends StructuredConfig<T> {
             return this.clazz;
         }
 
+        /**
+         * Get the ObjectProcessor to use for serialization/deserialization
+         *
+         * @return The ObjectProcessor to use for serialization/deserialization
+         *
+         * @since 5.1.0
+         */
+        public @NotNull ObjectProcessor getProcessor() {
+            return this.processor;
+        }
+
+        /**
+         * Set the ObjectProcessor to use for serialization/deserialization
+         *
+         * @param processor The ObjectProcessor to use for serialization/deserialization
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setProcessor(@NotNull ObjectProcessor processor) {
+            this.processor = processor;
+            return this;
+        }
+
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.memory.StructuredMemoryConfig}
          *
@@ -127,7 +195,7 @@ public class StructuredMemoryConfig<T> extends StructuredConfig<T> {
          * @since 4.0.0
          */
         public @NotNull StructuredMemoryConfig<T> build() {
-            return new StructuredMemoryConfig<>(this.clazz);
+            return new StructuredMemoryConfig<>(this.clazz, this.processor);
         }
     }
 }
\ No newline at end of file
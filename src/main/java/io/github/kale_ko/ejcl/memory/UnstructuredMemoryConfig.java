@@ -1,5 +1,6 @@
 package io.github.kale_ko.ejcl.memory;
 
+import io.github.kale_ko.bjsl.elements.ParsedObject;
 import io.github.kale_ko.bjsl.processor.ObjectProcessor;
 import io.github.kale_ko.ejcl.UnstructuredConfig;
 import java.io.IOException;
@@ -8,7 +9,7 @@ import org.jetbrains.annotations.NotNull;
 /**
  * An Unstructured Memory Config for storing data in memory
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 3.0.0
  */
 public class UnstructuredMemoryConfig extends UnstructuredConfig {
@@ -20,7 +21,21 @@ public class UnstructuredMemoryConfig extends UnstructuredConfig {
      * @since 3.0.0
      */
     protected UnstructuredMemoryConfig(@NotNull ObjectProcessor processor) {
-        super(processor);
+        this(processor, false);
+    }
+
+    /**
+     * Create a new UnstructuredMemoryConfig
+     *
+     * @param processor  The ObjectProcessor to use for serialization/deserialization
+     * @param threadSafe If the config can be read and written from multiple threads
+     *
+     * @since 5.1.0
+     */
+    protected UnstructuredMemoryConfig(@NotNull ObjectProcessor processor, boolean threadSafe) {
+        super(processor, threadSafe);
+
+        this.config = ParsedObject.create();
     }
 
     /**
@@ -65,7 +80,7 @@ public class UnstructuredMemoryConfig extends UnstructuredConfig {
      */
     @Override
     public void close() throws IOException {
-        this.config = null;
+        this.setConfig(null);
     }
 
     /**
@@ -82,7 +97,7 @@ public class UnstructuredMemoryConfig extends UnstructuredConfig {
     /**
      * A builder class for creating new {@link io.github.kale_ko.ejcl.memory.UnstructuredMemoryConfig}s
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder {
@@ -93,6 +108,13 @@ public class UnstructuredMemoryConfig extends UnstructuredConfig {
          */
         protected @NotNull ObjectProcessor processor;
 
+        /**
+         * If the config can be read and written from multiple threads
+         *
+         * @since 5.1.0
+         */
+        protected boolean threadSafe = false;
+
         /**
          * Create an {@link io.github.kale_ko.ejcl.memory.UnstructuredMemoryConfig} builder
          *
@@ -127,6 +149,30 @@ public class UnstructuredMemoryConfig extends UnstructuredConfig {
             return this;
         }
 
+        /**
+         * Get if the config can be read and written from multiple threads
+         *
+         * @return If the config can be read and written from multiple threads
+         *
+         * @since 5.1.0
+         */
+        public boolean getThreadSafe() {
+            return this.threadSafe;
+        }
+
+        /**
+         * Set if the config can be read and written from multiple threads
+         *
+         * @param threadSafe If the config can be read and written from multiple threads
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setThreadSafe(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+            return this;
+        }
 
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.memory.UnstructuredMemoryConfig}
@@ -136,7 +182,7 @@ public class UnstructuredMemoryConfig extends UnstructuredConfig {
          * @since 4.0.0
          */
         public @NotNull UnstructuredMemoryConfig build() {
-            return new UnstructuredMemoryConfig(this.processor);
+            return new UnstructuredMemoryConfig(this.processor, this.threadSafe);
         }
     }
 }
\ No newline at end of file
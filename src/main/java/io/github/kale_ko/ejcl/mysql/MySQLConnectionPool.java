@@ -0,0 +1,966 @@
+package io.github.kale_ko.ejcl.mysql;
+
+import io.github.kale_ko.ejcl.ConfigExecutors;
+import io.github.kale_ko.ejcl.exception.mysql.DriverLoadException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A small pool of connections to a MySQL server that can be shared by many configs
+ * <p>
+ * Connections that have been idle for longer than the validation interval are validated when they are borrowed, idle connections are closed after the idle timeout, and at most max size connections are open at once.
+ * Closing a borrowed connection returns it to the pool.
+ * The task closing idle connections is started when the first connection is opened and stopped by {@link #close()}.
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class MySQLConnectionPool implements DataSource {
+    /**
+     * An idle connection
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    protected static class IdleConnection {
+        /**
+         * The connection to the server
+         *
+         * @since 5.1.0
+         */
+        protected final @NotNull Connection connection;
+
+        /**
+         * The {@link System#nanoTime()} the connection was returned at
+         *
+         * @since 5.1.0
+         */
+        protected final long returned;
+
+        /**
+         * Create a new IdleConnection
+         *
+         * @param connection The connection to the server
+         * @param returned   The {@link System#nanoTime()} the connection was returned at
+         *
+         * @since 5.1.0
+         */
+        protected IdleConnection(@NotNull Connection connection, long returned) {
+            this.connection = connection;
+            this.returned = returned;
+        }
+    }
+
+    /**
+     * The url of the server
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull String url;
+
+    /**
+     * The properties to connect with
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Properties properties;
+
+    /**
+     * The maximum number of open connections
+     *
+     * @since 5.1.0
+     */
+    protected final int maxSize;
+
+    /**
+     * How long a connection can be idle before it is closed in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long idleTimeout;
+
+    /**
+     * How long to wait for a connection to be returned when the pool is full in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long borrowTimeout;
+
+    /**
+     * How long a connection can be idle before it is validated when borrowed in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long validationInterval;
+
+    /**
+     * The idle connections, most recently returned first
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Deque<IdleConnection> idle = new ArrayDeque<>();
+
+    /**
+     * The number of open connections, borrowed or idle
+     *
+     * @since 5.1.0
+     */
+    protected int size = 0;
+
+    /**
+     * The task closing idle connections or null if it has not been started
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ScheduledFuture<?> evictor = null;
+
+    /**
+     * If this pool is closed
+     *
+     * @since 5.1.0
+     */
+    protected boolean closed = false;
+
+    /**
+     * The login timeout in seconds
+     *
+     * @since 5.1.0
+     */
+    protected int loginTimeout = 0;
+
+    /**
+     * Create a new MySQLConnectionPool
+     *
+     * @param address            The address of the server
+     * @param database           The database on the server
+     * @param username           The username to the server
+     * @param password           The password to the server
+     * @param useMariadb         Weather to use the MariaDB driver
+     * @param maxSize            The maximum number of open connections
+     * @param idleTimeout        How long a connection can be idle before it is closed
+     * @param borrowTimeout      How long to wait for a connection to be returned when the pool is full
+     * @param validationInterval How long a connection can be idle before it is validated when borrowed
+     * @param statementCacheSize The maximum number of prepared statements the driver caches on each connection or 0 to not cache statements
+     *
+     * @since 5.1.0
+     */
+    protected MySQLConnectionPool(@NotNull InetSocketAddress address, @NotNull String database, @Nullable String username, @Nullable String password, boolean useMariadb, int maxSize, @NotNull Duration idleTimeout, @NotNull Duration borrowTimeout, @NotNull Duration validationInterval, int statementCacheSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        try {
+            if (useMariadb) {
+                Class.forName("org.mariadb.jdbc.Driver");
+            } else {
+                Class.forName("com.mysql.cj.jdbc.Driver");
+            }
+        } catch (ClassNotFoundException e) {
+            throw new DriverLoadException(e);
+        }
+
+        this.url = "jdbc:" + (useMariadb ? "mariadb:" : "mysql:") + "//" + address.getHostString() + ":" + address.getPort() + "/" + database;
+
+        this.properties = new Properties();
+        this.properties.put("characterEncoding", "utf8");
+        if (username != null) {
+            this.properties.put("user", username);
+
+            if (password != null) {
+                this.properties.put("password", password);
+            }
+        }
+        if (statementCacheSize > 0) {
+            this.properties.put("cachePrepStmts", "true");
+            this.properties.put("prepStmtCacheSize", Integer.toString(statementCacheSize));
+        }
+
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout.toNanos();
+        this.borrowTimeout = borrowTimeout.toNanos();
+        this.validationInterval = validationInterval.toNanos();
+    }
+
+    /**
+     * Borrow a connection from the pool, closing it returns it to the pool
+     * <p>
+     * A connection returned within the validation interval is handed out without a round trip to the server, so it may have been dropped since.
+     * Callers should retry on a fresh connection when a statement fails because the connection is broken.
+     *
+     * @return A connection
+     *
+     * @throws SQLException If a connection could not be opened or none was returned before the borrow timeout
+     * @since 5.1.0
+     */
+    @Override
+    public @NotNull Connection getConnection() throws SQLException {
+        long deadline = System.nanoTime() + this.borrowTimeout;
+
+        while (true) {
+            IdleConnection candidate = null;
+            boolean create = false;
+
+            synchronized (this) {
+                if (this.closed) {
+                    throw new SQLException("Connection pool is closed");
+                }
+
+                if (!this.idle.isEmpty()) {
+                    candidate = this.idle.pollFirst();
+                } else if (this.size < this.maxSize) {
+                    this.size++;
+                    create = true;
+
+                    if (this.evictor == null) {
+                        long evictInterval = Math.max(this.idleTimeout / 2, TimeUnit.SECONDS.toNanos(1));
+                        this.evictor = ConfigExecutors.getScheduler().scheduleWithFixedDelay(() -> ConfigExecutors.getDefault().execute(this::evictIdle), evictInterval, evictInterval, TimeUnit.NANOSECONDS);
+                    }
+                } else {
+                    long wait = deadline - System.nanoTime();
+                    if (wait <= 0) {
+                        throw new SQLException("Timed out waiting for a connection: " + this.maxSize + " connections are borrowed");
+                    }
+
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(this, wait);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a connection", e);
+                    }
+                    continue;
+                }
+            }
+
+            if (candidate != null) {
+                boolean valid = System.nanoTime() - candidate.returned < this.validationInterval;
+                if (!valid) {
+                    try {
+                        valid = candidate.connection.isValid(1);
+                    } catch (SQLException e) {
+                        valid = false;
+                    }
+                }
+
+                if (valid) {
+                    return this.wrap(candidate.connection);
+                }
+
+                this.discard(candidate.connection);
+            } else if (create) {
+                try {
+                    return this.wrap(DriverManager.getConnection(this.url, this.properties));
+                } catch (SQLException | RuntimeException e) {
+                    synchronized (this) {
+                        this.size--;
+                        this.notifyAll();
+                    }
+
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Not supported, the credentials are set when the pool is built
+     *
+     * @param username The username to the server
+     * @param password The password to the server
+     *
+     * @return Nothing
+     *
+     * @throws SQLFeatureNotSupportedException Always
+     * @since 5.1.0
+     */
+    @Override
+    public @NotNull Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * Wrap a connection so closing it returns it to the pool and aborting it removes it from the pool
+     *
+     * @param connection The connection to wrap
+     *
+     * @return The wrapped connection
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull Connection wrap(@NotNull Connection connection) {
+        boolean[] released = new boolean[] { false };
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close": {
+                    synchronized (released) {
+                        if (!released[0]) {
+                            released[0] = true;
+                            this.release(connection);
+                        }
+                    }
+                    return null;
+                }
+                case "abort": {
+                    boolean discard;
+                    synchronized (released) {
+                        discard = !released[0];
+                        released[0] = true;
+                    }
+
+                    if (discard) {
+                        try {
+                            connection.abort((Executor) args[0]);
+                        } catch (SQLException ignored) {
+                        }
+
+                        this.discard(connection);
+                    }
+                    return null;
+                }
+                case "isClosed": {
+                    synchronized (released) {
+                        return released[0] || connection.isClosed();
+                    }
+                }
+                case "unwrap": {
+                    return ((Class<?>) args[0]).isInstance(proxy) ? proxy : connection.unwrap((Class<?>) args[0]);
+                }
+                case "isWrapperFor": {
+                    return ((Class<?>) args[0]).isInstance(proxy) || connection.isWrapperFor((Class<?>) args[0]);
+                }
+                case "equals": {
+                    return proxy == args[0];
+                }
+                case "hashCode": {
+                    return System.identityHashCode(proxy);
+                }
+                default: {
+                    synchronized (released) {
+                        if (released[0]) {
+                            throw new SQLException("Connection has been returned to the pool");
+                        }
+                    }
+
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Return a connection to the pool
+     * <p>
+     * An unfinished transaction is rolled back, a connection that can not be reset is closed
+     *
+     * @param connection The connection to return
+     *
+     * @since 5.1.0
+     */
+    protected void release(@NotNull Connection connection) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            this.discard(connection);
+            return;
+        }
+
+        synchronized (this) {
+            if (!this.closed) {
+                this.idle.addFirst(new IdleConnection(connection, System.nanoTime()));
+                this.notifyAll();
+                return;
+            }
+        }
+
+        this.discard(connection);
+    }
+
+    /**
+     * Close a connection and remove it from the pool
+     *
+     * @param connection The connection to close
+     *
+     * @since 5.1.0
+     */
+    protected void discard(@NotNull Connection connection) {
+        synchronized (this) {
+            this.size--;
+            this.notifyAll();
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * Close the connections that have been idle for longer than the idle timeout
+     *
+     * @since 5.1.0
+     */
+    protected void evictIdle() {
+        Deque<Connection> expired = new ArrayDeque<>();
+
+        synchronized (this) {
+            long now = System.nanoTime();
+
+            Iterator<IdleConnection> iterator = this.idle.descendingIterator();
+            while (iterator.hasNext()) {
+                IdleConnection connection = iterator.next();
+                if (now - connection.returned < this.idleTimeout) {
+                    break;
+                }
+
+                iterator.remove();
+                expired.add(connection.connection);
+            }
+        }
+
+        for (Connection connection : expired) {
+            this.discard(connection);
+        }
+    }
+
+    /**
+     * Close the pool and every idle connection, borrowed connections are closed when they are returned
+     *
+     * @since 5.1.0
+     */
+    public void close() {
+        Deque<IdleConnection> idle;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+
+            idle = new ArrayDeque<>(this.idle);
+            this.idle.clear();
+
+            if (this.evictor != null) {
+                this.evictor.cancel(false);
+            }
+
+            this.notifyAll();
+        }
+
+        for (IdleConnection connection : idle) {
+            this.discard(connection.connection);
+        }
+    }
+
+    /**
+     * Get if the pool is closed
+     *
+     * @return If the pool is closed
+     *
+     * @since 5.1.0
+     */
+    public synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Get the number of open connections, borrowed or idle
+     *
+     * @return The number of open connections
+     *
+     * @since 5.1.0
+     */
+    public synchronized int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Get the number of idle connections
+     *
+     * @return The number of idle connections
+     *
+     * @since 5.1.0
+     */
+    public synchronized int getIdle() {
+        return this.idle.size();
+    }
+
+    @Override
+    public @Nullable PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(@Nullable PrintWriter out) {
+    }
+
+    @Override
+    public synchronized void setLoginTimeout(int seconds) {
+        this.loginTimeout = seconds;
+    }
+
+    @Override
+    public synchronized int getLoginTimeout() {
+        return this.loginTimeout;
+    }
+
+    @Override
+    public @NotNull Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(@NotNull Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(@NotNull Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * A builder class for creating new {@link MySQLConnectionPool}s
+     * <p>
+     * The task closing idle connections is started when the first connection is opened, so a built pool must be closed with {@link MySQLConnectionPool#close()} once it is no longer used
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    public static class Builder {
+        /**
+         * The address of the server
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull InetSocketAddress address;
+
+        /**
+         * The database on the server
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull String database;
+
+        /**
+         * The username to the server
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable String username = null;
+
+        /**
+         * The password to the server
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable String password = null;
+
+        /**
+         * Weather to use the MariaDB driver
+         * <p>
+         * Default is false
+         *
+         * @since 5.1.0
+         */
+        protected boolean useMariadb = false;
+
+        /**
+         * The maximum number of open connections
+         * <p>
+         * Default is 8
+         *
+         * @since 5.1.0
+         */
+        protected int maxSize = 8;
+
+        /**
+         * How long a connection can be idle before it is closed
+         * <p>
+         * Default is 10 minutes
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration idleTimeout = Duration.ofMinutes(10);
+
+        /**
+         * How long to wait for a connection to be returned when the pool is full
+         * <p>
+         * Default is 30 seconds
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration borrowTimeout = Duration.ofSeconds(30);
+
+        /**
+         * How long a connection can be idle before it is validated when borrowed
+         * <p>
+         * Default is 30 seconds
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration validationInterval = Duration.ofSeconds(30);
+
+        /**
+         * The maximum number of prepared statements the driver caches on each connection or 0 to not cache statements
+         * <p>
+         * Default is 32
+         *
+         * @since 5.1.0
+         */
+        protected int statementCacheSize = 32;
+
+        /**
+         * Create a {@link MySQLConnectionPool} builder
+         *
+         * @param address  The address of the server
+         * @param database The database on the server
+         *
+         * @since 5.1.0
+         */
+        public Builder(@NotNull InetSocketAddress address, @NotNull String database) {
+            this.address = address;
+            this.database = database;
+        }
+
+        /**
+         * Create a {@link MySQLConnectionPool} builder
+         *
+         * @param host     The host of the server
+         * @param port     The port of the server
+         * @param database The database on the server
+         *
+         * @since 5.1.0
+         */
+        public Builder(@NotNull String host, short port, @NotNull String database) {
+            this(new InetSocketAddress(host, port), database);
+        }
+
+        /**
+         * Get the address of the server
+         *
+         * @return The address of the server
+         *
+         * @since 5.1.0
+         */
+        public @NotNull InetSocketAddress getAddress() {
+            return this.address;
+        }
+
+        /**
+         * Set the address of the server
+         *
+         * @param address The address of the server
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setAddress(@NotNull InetSocketAddress address) {
+            this.address = address;
+            return this;
+        }
+
+        /**
+         * Get the database on the server
+         *
+         * @return The database on the server
+         *
+         * @since 5.1.0
+         */
+        public @NotNull String getDatabase() {
+            return this.database;
+        }
+
+        /**
+         * Set the database on the server
+         *
+         * @param database The database on the server
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setDatabase(@NotNull String database) {
+            this.database = database;
+            return this;
+        }
+
+        /**
+         * Get the username to the server
+         * <p>
+         * Default is null
+         *
+         * @return The username to the server
+         *
+         * @since 5.1.0
+         */
+        public @Nullable String getUsername() {
+            return this.username;
+        }
+
+        /**
+         * Set the username to the server
+         * <p>
+         * Default is null
+         *
+         * @param username The username to the server
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setUsername(@Nullable String username) {
+            this.username = username;
+            return this;
+        }
+
+        /**
+         * Get the password to the server
+         * <p>
+         * Default is null
+         *
+         * @return The password to the server
+         *
+         * @since 5.1.0
+         */
+        public @Nullable String getPassword() {
+            return this.password;
+        }
+
+        /**
+         * Set the password to the server
+         * <p>
+         * Default is null
+         *
+         * @param password The password to the server
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setPassword(@Nullable String password) {
+            this.password = password;
+            return this;
+        }
+
+        /**
+         * Get weather to use the MariaDB driver
+         * <p>
+         * Default is false
+         *
+         * @return Weather to use the MariaDB driver
+         *
+         * @since 5.1.0
+         */
+        public boolean getUseMariadb() {
+            return this.useMariadb;
+        }
+
+        /**
+         * Set weather to use the MariaDB driver
+         * <p>
+         * Default is false
+         *
+         * @param useMariadb Weather to use the MariaDB driver
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setUseMariadb(boolean useMariadb) {
+            this.useMariadb = useMariadb;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of open connections
+         * <p>
+         * Default is 8
+         *
+         * @return The maximum number of open connections
+         *
+         * @since 5.1.0
+         */
+        public int getMaxSize() {
+            return this.maxSize;
+        }
+
+        /**
+         * Set the maximum number of open connections
+         * <p>
+         * Default is 8
+         *
+         * @param maxSize The maximum number of open connections
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Get how long a connection can be idle before it is closed
+         * <p>
+         * Default is 10 minutes
+         *
+         * @return How long a connection can be idle before it is closed
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getIdleTimeout() {
+            return this.idleTimeout;
+        }
+
+        /**
+         * Set how long a connection can be idle before it is closed
+         * <p>
+         * Default is 10 minutes
+         *
+         * @param idleTimeout How long a connection can be idle before it is closed
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setIdleTimeout(@NotNull Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * Get how long to wait for a connection to be returned when the pool is full
+         * <p>
+         * Default is 30 seconds
+         *
+         * @return How long to wait for a connection to be returned when the pool is full
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getBorrowTimeout() {
+            return this.borrowTimeout;
+        }
+
+        /**
+         * Set how long to wait for a connection to be returned when the pool is full
+         * <p>
+         * Default is 30 seconds
+         *
+         * @param borrowTimeout How long to wait for a connection to be returned when the pool is full
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setBorrowTimeout(@NotNull Duration borrowTimeout) {
+            this.borrowTimeout = borrowTimeout;
+            return this;
+        }
+
+        /**
+         * Get how long a connection can be idle before it is validated when borrowed
+         * <p>
+         * Default is 30 seconds
+         *
+         * @return How long a connection can be idle before it is validated when borrowed
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getValidationInterval() {
+            return this.validationInterval;
+        }
+
+        /**
+         * Set how long a connection can be idle before it is validated when borrowed
+         * <p>
+         * Connections returned more recently are borrowed without a round trip to the server, {@link Duration#ZERO} validates every borrow.
+         * <p>
+         * Default is 30 seconds
+         *
+         * @param validationInterval How long a connection can be idle before it is validated when borrowed
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setValidationInterval(@NotNull Duration validationInterval) {
+            this.validationInterval = validationInterval;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of prepared statements the driver caches on each connection
+         * <p>
+         * Default is 32
+         *
+         * @return The maximum number of prepared statements the driver caches on each connection or 0 to not cache statements
+         *
+         * @since 5.1.0
+         */
+        public int getStatementCacheSize() {
+            return this.statementCacheSize;
+        }
+
+        /**
+         * Set the maximum number of prepared statements the driver caches on each connection
+         * <p>
+         * Sets the {@code cachePrepStmts} and {@code prepStmtCacheSize} driver properties, the cache lives and dies with each pooled connection.
+         * <p>
+         * Default is 32
+         *
+         * @param statementCacheSize The maximum number of prepared statements the driver caches on each connection or 0 to not cache statements
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setStatementCacheSize(int statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        /**
+         * Creating a new {@link MySQLConnectionPool}
+         *
+         * @return A new {@link MySQLConnectionPool}
+         *
+         * @since 5.1.0
+         */
+        public @NotNull MySQLConnectionPool build() {
+            return new MySQLConnectionPool(this.address, this.database, this.username, this.password, this.useMariadb, this.maxSize, this.idleTimeout, this.borrowTimeout, this.validationInterval, this.statementCacheSize);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,270 @@
+package io.github.kale_ko.ejcl.mysql;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An in-process cache of values read from a database
+ * <p>
+ * Entries expire a fixed time after they are stored and the least recently used entry is evicted once the cache is full.
+ * Missing values are cached as null so repeated reads of a missing path do not reach the database either.
+ * <p>
+ * Changes made by other processes are only seen once the cached entry expires.
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class NearCache {
+    /**
+     * Returned by {@link #get(String)} when a path is not cached
+     *
+     * @since 5.1.0
+     */
+    public static final @NotNull Object MISSING = new Object();
+
+    /**
+     * A cached value
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    protected static class CacheEntry {
+        /**
+         * The cached value
+         *
+         * @since 5.1.0
+         */
+        protected final @Nullable Object value;
+
+        /**
+         * The {@link System#nanoTime()} the entry expires at
+         *
+         * @since 5.1.0
+         */
+        protected final long expires;
+
+        /**
+         * Create a new CacheEntry
+         *
+         * @param value   The cached value
+         * @param expires The {@link System#nanoTime()} the entry expires at
+         *
+         * @since 5.1.0
+         */
+        protected CacheEntry(@Nullable Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+    }
+
+    /**
+     * How long entries are kept in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long ttl;
+
+    /**
+     * The maximum number of entries
+     *
+     * @since 5.1.0
+     */
+    protected final int maxSize;
+
+    /**
+     * The cached entries in least to most recently used order
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull LinkedHashMap<String, CacheEntry> entries;
+
+    /**
+     * Incremented every time a value is written or invalidated, used to drop reads that raced with a write
+     *
+     * @since 5.1.0
+     */
+    protected long stamp = 0;
+
+    /**
+     * The number of reads that were cached
+     *
+     * @since 5.1.0
+     */
+    protected long hits = 0;
+
+    /**
+     * The number of reads that were not cached or had expired
+     *
+     * @since 5.1.0
+     */
+    protected long misses = 0;
+
+    /**
+     * The number of entries evicted because the cache was full
+     *
+     * @since 5.1.0
+     */
+    protected long evictions = 0;
+
+    /**
+     * Create a new NearCache
+     *
+     * @param ttl     How long entries are kept
+     * @param maxSize The maximum number of entries
+     *
+     * @since 5.1.0
+     */
+    public NearCache(@NotNull Duration ttl, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        this.ttl = ttl.toNanos();
+        this.maxSize = maxSize;
+
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (this.size() > NearCache.this.maxSize) {
+                    NearCache.this.evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get a cached value
+     *
+     * @param path The path to get
+     *
+     * @return The cached value, which may be null, or {@link #MISSING}
+     *
+     * @since 5.1.0
+     */
+    public synchronized @Nullable Object get(@NotNull String path) {
+        CacheEntry entry = this.entries.get(path);
+        if (entry != null) {
+            if (entry.expires - System.nanoTime() > 0) {
+                this.hits++;
+                return entry.value;
+            }
+
+            this.entries.remove(path);
+        }
+
+        this.misses++;
+        return MISSING;
+    }
+
+    /**
+     * Get the current stamp to pass to {@link #load(String, Object, long)}
+     *
+     * @return The current stamp
+     *
+     * @since 5.1.0
+     */
+    public synchronized long getStamp() {
+        return this.stamp;
+    }
+
+    /**
+     * Cache a value that was read from the database
+     * <p>
+     * The value is dropped if anything was written since the stamp was taken so a slow read can not overwrite a newer value
+     *
+     * @param path  The path of the value
+     * @param value The value that was read
+     * @param stamp The stamp taken before the value was read
+     *
+     * @since 5.1.0
+     */
+    public synchronized void load(@NotNull String path, @Nullable Object value, long stamp) {
+        if (this.stamp == stamp) {
+            this.entries.put(path, new CacheEntry(value, System.nanoTime() + this.ttl));
+        }
+    }
+
+    /**
+     * Cache a value that was written to the database
+     *
+     * @param path  The path of the value
+     * @param value The value that was written
+     *
+     * @since 5.1.0
+     */
+    public synchronized void put(@NotNull String path, @Nullable Object value) {
+        this.stamp++;
+        this.entries.put(path, new CacheEntry(value, System.nanoTime() + this.ttl));
+    }
+
+    /**
+     * Remove a cached value
+     *
+     * @param path The path of the value
+     *
+     * @since 5.1.0
+     */
+    public synchronized void invalidate(@NotNull String path) {
+        this.stamp++;
+        this.entries.remove(path);
+    }
+
+    /**
+     * Remove every cached value
+     *
+     * @since 5.1.0
+     */
+    public synchronized void clear() {
+        this.stamp++;
+        this.entries.clear();
+    }
+
+    /**
+     * Get the number of cached entries, including expired entries that have not been removed yet
+     *
+     * @return The number of cached entries
+     *
+     * @since 5.1.0
+     */
+    public synchronized int getSize() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the number of reads that were cached
+     *
+     * @return The number of reads that were cached
+     *
+     * @since 5.1.0
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Get the number of reads that were not cached or had expired
+     *
+     * @return The number of reads that were not cached or had expired
+     *
+     * @since 5.1.0
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Get the number of entries evicted because the cache was full
+     *
+     * @return The number of entries evicted because the cache was full
+     *
+     * @since 5.1.0
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+}
\ No newline at end of file
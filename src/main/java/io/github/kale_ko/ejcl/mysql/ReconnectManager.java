@@ -0,0 +1,429 @@
+package io.github.kale_ko.ejcl.mysql;
+
+import io.github.kale_ko.ejcl.IORunnable;
+import io.github.kale_ko.ejcl.exception.mysql.CircuitOpenException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reconnects to a server in the background with a circuit breaker
+ * <p>
+ * While the circuit is closed a caller that finds the server disconnected connects once on its own thread.
+ * If that fails the circuit opens, callers fail fast with a {@link CircuitOpenException}, and reconnects are run on the scheduler with jittered exponential backoff.
+ * While a reconnect is running the circuit is half-open, once one succeeds the circuit closes again.
+ * <p>
+ * State listeners are called on the thread that changed the state
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class ReconnectManager {
+    /**
+     * The state of the circuit
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    public enum State {
+        /**
+         * The server is reachable and callers connect on their own thread
+         *
+         * @since 5.1.0
+         */
+        CLOSED,
+
+        /**
+         * The server could not be reached, callers fail fast until the scheduled reconnect
+         *
+         * @since 5.1.0
+         */
+        OPEN,
+
+        /**
+         * A scheduled reconnect is running, callers fail fast until it finishes
+         *
+         * @since 5.1.0
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * A listener that is called when the state of the circuit changes
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    @FunctionalInterface
+    public interface StateListener {
+        /**
+         * Called when the state of the circuit changes
+         *
+         * @param oldState The state before the change
+         * @param newState The state after the change
+         *
+         * @since 5.1.0
+         */
+        void onStateChange(@NotNull State oldState, @NotNull State newState);
+    }
+
+    /**
+     * Connects to the server
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull IORunnable connector;
+
+    /**
+     * Checks if the server is connected
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull BooleanSupplier connected;
+
+    /**
+     * The delay before the first reconnect in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long baseDelay;
+
+    /**
+     * The maximum delay between reconnects in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long maxDelay;
+
+    /**
+     * The executor to reconnect on
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Executor executor;
+
+    /**
+     * The scheduler that starts reconnects
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ScheduledExecutorService scheduler;
+
+    /**
+     * The listeners of state changes
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull List<StateListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The lock that makes sure only one thread connects at once
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Object CONNECT_LOCK = new Object();
+
+    /**
+     * The state of the circuit
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull State state = State.CLOSED;
+
+    /**
+     * The number of reconnects that have failed in a row
+     *
+     * @since 5.1.0
+     */
+    protected int failures = 0;
+
+    /**
+     * The exception from the last failed reconnect or null
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable Exception lastError = null;
+
+    /**
+     * The {@link System#nanoTime()} of the next scheduled reconnect
+     *
+     * @since 5.1.0
+     */
+    protected long retryAt = 0;
+
+    /**
+     * The next scheduled reconnect or null
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ScheduledFuture<?> task = null;
+
+    /**
+     * If this manager is closed
+     *
+     * @since 5.1.0
+     */
+    protected boolean closed = false;
+
+    /**
+     * Create a new ReconnectManager
+     *
+     * @param connector The task that connects to the server
+     * @param connected Checks if the server is connected
+     * @param baseDelay The delay before the first reconnect, doubled after every failure
+     * @param maxDelay  The maximum delay between reconnects
+     * @param executor  The executor to reconnect on
+     * @param scheduler The scheduler that starts reconnects
+     *
+     * @since 5.1.0
+     */
+    public ReconnectManager(@NotNull IORunnable connector, @NotNull BooleanSupplier connected, @NotNull Duration baseDelay, @NotNull Duration maxDelay, @NotNull Executor executor, @NotNull ScheduledExecutorService scheduler) {
+        this.connector = connector;
+        this.connected = connected;
+
+        this.baseDelay = Math.max(baseDelay.toNanos(), 1);
+        this.maxDelay = Math.max(maxDelay.toNanos(), this.baseDelay);
+
+        this.executor = executor;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Make sure the server is connected, connecting on this thread if the circuit is closed
+     *
+     * @throws CircuitOpenException If the circuit is open or half-open, or connecting failed and opened it
+     * @since 5.1.0
+     */
+    public void ensureConnected() {
+        if (this.connected.getAsBoolean()) {
+            return;
+        }
+
+        this.checkClosed();
+
+        synchronized (CONNECT_LOCK) {
+            this.checkClosed();
+
+            if (this.connected.getAsBoolean()) {
+                return;
+            }
+
+            try {
+                this.connector.run();
+            } catch (IOException | RuntimeException e) {
+                this.open(e);
+
+                throw new CircuitOpenException(this.getRetryIn().toMillis(), e);
+            }
+        }
+    }
+
+    /**
+     * Throw if the circuit is not closed
+     *
+     * @throws CircuitOpenException If the circuit is open or half-open
+     * @since 5.1.0
+     */
+    protected void checkClosed() {
+        Exception lastError;
+        synchronized (this) {
+            if (this.state == State.CLOSED) {
+                return;
+            }
+            lastError = this.lastError;
+        }
+
+        throw new CircuitOpenException(this.getRetryIn().toMillis(), lastError);
+    }
+
+    /**
+     * Open the circuit after a failed connect and schedule a reconnect
+     *
+     * @param error The exception from the failed connect
+     *
+     * @since 5.1.0
+     */
+    protected void open(@NotNull Exception error) {
+        State oldState;
+        synchronized (this) {
+            this.failures++;
+            this.lastError = error;
+
+            long delay = this.nextDelay();
+            this.retryAt = System.nanoTime() + delay;
+
+            oldState = this.state;
+            this.state = State.OPEN;
+
+            if (!this.closed) {
+                this.task = this.scheduler.schedule(() -> this.executor.execute(this::attempt), delay, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        this.fireStateChange(oldState, State.OPEN);
+    }
+
+    /**
+     * Get the delay before the next reconnect
+     * <p>
+     * The delay doubles after every failure up to the maximum delay, and is picked at random from the upper half of that so many clients do not reconnect at the same time
+     *
+     * @return The delay before the next reconnect in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected synchronized long nextDelay() {
+        long cap = this.baseDelay;
+        for (int i = 1; i < this.failures && cap < this.maxDelay; i++) {
+            cap *= 2;
+        }
+        cap = Math.min(cap, this.maxDelay);
+
+        return cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+    }
+
+    /**
+     * Run a scheduled reconnect
+     *
+     * @since 5.1.0
+     */
+    protected void attempt() {
+        synchronized (this) {
+            if (this.closed || this.state != State.OPEN) {
+                return;
+            }
+            this.state = State.HALF_OPEN;
+        }
+        this.fireStateChange(State.OPEN, State.HALF_OPEN);
+
+        try {
+            synchronized (CONNECT_LOCK) {
+                if (!this.connected.getAsBoolean()) {
+                    this.connector.run();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            this.open(e);
+            return;
+        }
+
+        synchronized (this) {
+            this.failures = 0;
+            this.lastError = null;
+            this.state = State.CLOSED;
+        }
+        this.fireStateChange(State.HALF_OPEN, State.CLOSED);
+    }
+
+    /**
+     * Call the state listeners
+     *
+     * @param oldState The state before the change
+     * @param newState The state after the change
+     *
+     * @since 5.1.0
+     */
+    protected void fireStateChange(@NotNull State oldState, @NotNull State newState) {
+        if (oldState == newState) {
+            return;
+        }
+
+        for (StateListener listener : this.listeners) {
+            listener.onStateChange(oldState, newState);
+        }
+    }
+
+    /**
+     * Add a listener of state changes
+     *
+     * @param listener The listener to add
+     *
+     * @since 5.1.0
+     */
+    public void addListener(@NotNull StateListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener of state changes
+     *
+     * @param listener The listener to remove
+     *
+     * @return If the listener was removed
+     *
+     * @since 5.1.0
+     */
+    public boolean removeListener(@NotNull StateListener listener) {
+        return this.listeners.remove(listener);
+    }
+
+    /**
+     * Get the state of the circuit
+     *
+     * @return The state of the circuit
+     *
+     * @since 5.1.0
+     */
+    public synchronized @NotNull State getState() {
+        return this.state;
+    }
+
+    /**
+     * Get the number of reconnects that have failed in a row
+     *
+     * @return The number of reconnects that have failed in a row
+     *
+     * @since 5.1.0
+     */
+    public synchronized int getFailures() {
+        return this.failures;
+    }
+
+    /**
+     * Get the exception from the last failed reconnect
+     *
+     * @return The exception from the last failed reconnect or null if the circuit is closed
+     *
+     * @since 5.1.0
+     */
+    public synchronized @Nullable Exception getLastError() {
+        return this.lastError;
+    }
+
+    /**
+     * Get how long until the next scheduled reconnect
+     *
+     * @return How long until the next scheduled reconnect, zero if the circuit is closed or a reconnect is running
+     *
+     * @since 5.1.0
+     */
+    public synchronized @NotNull Duration getRetryIn() {
+        if (this.state != State.OPEN) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos(Math.max(this.retryAt - System.nanoTime(), 0));
+    }
+
+    /**
+     * Stop scheduling reconnects
+     *
+     * @since 5.1.0
+     */
+    public synchronized void close() {
+        this.closed = true;
+
+        if (this.task != null) {
+            this.task.cancel(false);
+        }
+    }
+}
\ No newline at end of file
@@ -2,16 +2,19 @@ package io.github.kale_ko.ejcl.mysql;
 
 import com.fasterxml.jackson.core.io.BigDecimalParser;
 import com.fasterxml.jackson.core.io.BigIntegerParser;
-import io.github.kale_ko.bjsl.elements.ParsedElement;
 import io.github.kale_ko.bjsl.elements.ParsedObject;
 import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
 import io.github.kale_ko.bjsl.processor.ObjectProcessor;
+import io.github.kale_ko.ejcl.ConfigExecutors;
+import io.github.kale_ko.ejcl.ConfigPath;
+import io.github.kale_ko.ejcl.ParsedDiff;
+import io.github.kale_ko.ejcl.ParsedHash;
 import io.github.kale_ko.ejcl.PathResolver;
 import io.github.kale_ko.ejcl.StructuredConfig;
 import io.github.kale_ko.ejcl.exception.ConfigClosedException;
 import io.github.kale_ko.ejcl.exception.ConfigNotLoadedException;
+import io.github.kale_ko.ejcl.exception.mysql.CircuitOpenException;
 import io.github.kale_ko.ejcl.exception.mysql.DriverLoadException;
-import io.github.kale_ko.ejcl.exception.mysql.MaximumReconnectsException;
 import io.github.kale_ko.ejcl.exception.mysql.MySQLException;
 import io.github.kale_ko.ejcl.mysql.helper.MySQLHelper;
 import java.io.IOException;
@@ -23,6 +26,10 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,7 +38,7 @@ import org.jetbrains.annotations.Nullable;
  *
  * @param <T> The type of the data being stored
  *
- * @version 5.0.1
+ * @version 5.1.0
  * @since 1.0.0
  */
 public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
@@ -102,15 +109,54 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
      * How many times we have tried to reconnect
      *
      * @since 2.3.0
+     * @deprecated Reconnects are tracked by the {@link ReconnectManager}, see {@link #getReconnectManager()}
      */
+    @Deprecated(since="5.1.0")
     protected int reconnectAttempts = 0;
 
+    /**
+     * The manager of reconnects and the circuit breaker
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ReconnectManager reconnect;
+
     /**
      * When the config expires next
      *
      * @since 1.1.0
      */
-    protected @NotNull Instant configExpires = Instant.ofEpochSecond(0);
+    protected volatile @NotNull Instant configExpires = Instant.ofEpochSecond(0);
+
+    /**
+     * How long an expired config is served while it is reloaded in the background or null to reload on the caller's thread
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable Duration maxStaleness;
+
+    /**
+     * If a background reload is running
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    /**
+     * The error from the last background reload or null if it succeeded
+     *
+     * @since 5.1.0
+     */
+    protected volatile @Nullable Exception refreshError = null;
+
+    /**
+     * When a background reload first kept the config because it had changes that have not been saved, or null if it has not
+     * <p>
+     * Must only be used while holding {@link #SAVELOAD_LOCK}
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable Instant unsavedSince = null;
 
     /**
      * A copy of the data that was fetched
@@ -119,6 +165,13 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
      */
     protected @Nullable ParsedObject configBackup = null;
 
+    /**
+     * The structural hashes of the copy of the data that was fetched, kept between saves so unchanged branches are skipped without being walked
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull ParsedHash backupHashes = new ParsedHash();
+
     /**
      * The lock used when saving and loading the config
      *
@@ -133,6 +186,48 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
      */
     protected boolean closed = false;
 
+    /**
+     * The data source to borrow connections from or null to use a single connection
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable DataSource dataSource;
+
+    /**
+     * If the table has been prepared through the data source
+     *
+     * @since 5.1.0
+     */
+    protected volatile boolean prepared = false;
+
+    /**
+     * If the connection is validated with a ping before every operation
+     *
+     * @since 5.1.0
+     */
+    protected final boolean validateOnUse;
+
+    /**
+     * How often the connection is checked in the background or null to not check it
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable Duration heartbeatInterval;
+
+    /**
+     * The task checking the connection every heartbeat interval or null if it has not been started
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ScheduledFuture<?> heartbeat = null;
+
+    /**
+     * If the table has been created and updated, so reconnecting does not need to check it again
+     *
+     * @since 5.1.0
+     */
+    protected volatile boolean schemaVerified = false;
+
     /**
      * Create a new StructuredMySQLConfig
      *
@@ -149,6 +244,31 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
      * @since 3.11.0
      */
     protected StructuredMySQLConfig(@NotNull Class<T> clazz, @NotNull InetSocketAddress address, @NotNull String database, @NotNull String table, @Nullable String username, @Nullable String password, boolean useMariadb, @NotNull Duration cacheLength, @NotNull ObjectProcessor processor) {
+        this(clazz, address, database, table, username, password, useMariadb, cacheLength, processor, null, true, null, Duration.ofSeconds(1), Duration.ofSeconds(30), null);
+    }
+
+    /**
+     * Create a new StructuredMySQLConfig
+     *
+     * @param clazz             The class of the data being stored
+     * @param address           The address of the server
+     * @param database          The database on the server
+     * @param table             The table of the database
+     * @param username          The username to the server
+     * @param password          The password to the server
+     * @param useMariadb        Weather to use the MariaDB driver
+     * @param cacheLength       How long to cache the config in memory
+     * @param processor         The ObjectProcessor to use for serialization/deserialization
+     * @param dataSource        The data source to borrow connections from or null to use a single connection
+     * @param validateOnUse     If the connection is validated with a ping before every operation
+     * @param heartbeatInterval How often the connection is checked in the background or null to not check it
+     * @param reconnectDelay    The delay before the first background reconnect, doubled after every failure
+     * @param maxReconnectDelay The maximum delay between background reconnects
+     * @param maxStaleness      How long an expired config is served while it is reloaded in the background or null to reload on the caller's thread
+     *
+     * @since 5.1.0
+     */
+    protected StructuredMySQLConfig(@NotNull Class<T> clazz, @NotNull InetSocketAddress address, @NotNull String database, @NotNull String table, @Nullable String username, @Nullable String password, boolean useMariadb, @NotNull Duration cacheLength, @NotNull ObjectProcessor processor, @Nullable DataSource dataSource, boolean validateOnUse, @Nullable Duration heartbeatInterval, @NotNull Duration reconnectDelay, @NotNull Duration maxReconnectDelay, @Nullable Duration maxStaleness) {
         super(clazz, false);
 
         this.processor = processor;
@@ -164,6 +284,67 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
         this.useMariadb = useMariadb;
 
         this.cacheLength = cacheLength;
+        this.maxStaleness = maxStaleness;
+
+        this.dataSource = dataSource;
+
+        this.validateOnUse = validateOnUse;
+        this.reconnect = new ReconnectManager(this::connect, this::getConnected, reconnectDelay, maxReconnectDelay, ConfigExecutors.getDefault(), ConfigExecutors.getScheduler());
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Get the data being stored, loading it if necessary
+     * <p>
+     * With a max staleness an expired config is still returned while one background task reloads it, callers only wait for a reload once the config is older than the max staleness
+     *
+     * @return The data being stored
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public @NotNull T get() {
+        T config = this.config;
+        Duration maxStaleness = this.maxStaleness;
+        if (maxStaleness != null && config != null && !this.closed && !this.getLoaded()) {
+            if (Instant.now().isBefore(this.configExpires.plus(maxStaleness))) {
+                this.refresh();
+                return config;
+            }
+        }
+
+        return super.get();
+    }
+
+    /**
+     * Reload the config in the background if a reload is not already running
+     * <p>
+     * If the config has changes that have not been saved it is not replaced and the server is not queried, the reload only pushes back the expiry so the changes are not lost before the next {@link #save()}.
+     * Changes are only kept for the max staleness after a reload first finds them, after that the reload replaces them so remote changes are not hidden forever.
+     * If the reload fails the expired config keeps being served, the error is kept for {@link #getRefreshError()} and the next get after it tries again
+     *
+     * @since 5.1.0
+     */
+    protected void refresh() {
+        if (!this.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            ConfigExecutors.getDefault().execute(() -> {
+                try {
+                    this.load(false, true);
+                    this.refreshError = null;
+                } catch (IOException | RuntimeException e) {
+                    this.refreshError = e;
+                } finally {
+                    this.refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            this.refreshing.set(false);
+            throw e;
+        }
     }
 
     /**
@@ -184,13 +365,24 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
 
     /**
      * Get if the driver is connected
+     * <p>
+     * When using a data source this is if the table has been prepared.
+     * When not validating on use this is if the connection has not been closed, a broken connection is found by the next operation instead.
      *
      * @return If the driver is connected
      *
      * @since 3.5.0
      */
     public boolean getConnected() {
+        if (this.dataSource != null) {
+            return this.prepared;
+        }
+
         try {
+            if (!this.validateOnUse) {
+                return this.connection != null && !this.connection.isClosed();
+            }
+
             return this.connection != null && this.connection.isValid(1);
         } catch (SQLException e) {
             throw new MySQLException(e);
@@ -215,6 +407,16 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
     public void connect() throws IOException {
         synchronized (SAVELOAD_LOCK) {
             try {
+                if (this.dataSource != null) {
+                    try (Connection connection = this.dataSource.getConnection()) {
+                        this.prepare(connection);
+                    }
+
+                    this.prepared = true;
+                    this.startTasks();
+                    return;
+                }
+
                 Properties properties = new Properties();
                 properties.put("characterEncoding", "utf8");
                 if (this.username != null) {
@@ -238,28 +440,8 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
                 this.connection = DriverManager.getConnection("jdbc:" + (this.useMariadb ? "mariadb:" : "mysql:") + "//" + this.address.getHostString() + ":" + this.address.getPort() + "/" + this.database, properties);
 
                 if (this.connection.isValid(3)) {
-                    this.reconnectAttempts = 0;
-
-                    MySQLHelper.execute(this.connection, "CREATE TABLE IF NOT EXISTS " + this.table + " (path varchar(256) CHARACTER SET utf8 NOT NULL, type varchar(16) CHARACTER SET utf8 NOT NULL, value varchar(4096) CHARACTER SET utf8, PRIMARY KEY (path)) CHARACTER SET utf8;");
-
-                    try (ResultSet result = MySQLHelper.query(this.connection, "DESCRIBE " + this.table + ";")) {
-                        boolean typeExists = false;
-
-                        while (result.next()) {
-                            String name = result.getString("Field");
-                            if (name.equals("type")) {
-                                typeExists = true;
-                            }
-                        }
-
-                        if (!typeExists) {
-                            MySQLHelper.execute(this.connection, "ALTER TABLE " + this.table + " ADD COLUMN type varchar(16) CHARACTER SET utf8 NOT NULL AFTER path;");
-
-                            MySQLHelper.execute(this.connection, "UPDATE " + this.table + " SET type='STRING';");
-                        }
-                    } catch (SQLException e) {
-                        throw new IOException(e);
-                    }
+                    this.prepare(this.connection);
+                    this.startTasks();
                 } else {
                     if (this.connection != null) {
                         this.connection.close();
@@ -274,117 +456,334 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
     }
 
     /**
-     * Load the config
-     *
-     * @param save Weather to save the config after loaded (To update the template)
+     * Start the heartbeat task if it is enabled and has not been started yet
+     * <p>
+     * Called by {@link #connect()} while holding {@link #SAVELOAD_LOCK}, so a config that never connects schedules nothing
      *
-     * @throws IOException On load error
-     * @since 1.3.0
+     * @since 5.1.0
      */
-    @Override
-    public void load(boolean save) throws IOException {
+    protected void startTasks() {
         if (this.closed) {
-            throw new ConfigClosedException();
+            return;
+        }
+
+        if (this.heartbeat == null && this.heartbeatInterval != null && this.dataSource == null) {
+            long interval = this.heartbeatInterval.toNanos();
+            this.heartbeat = ConfigExecutors.getScheduler().scheduleWithFixedDelay(() -> ConfigExecutors.getDefault().execute(this::heartbeat), interval, interval, TimeUnit.NANOSECONDS);
         }
+    }
+
+    /**
+     * Create or update the table if it has not been verified yet
+     *
+     * @param connection The connection to prepare the table on
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected void prepare(@NotNull Connection connection) throws SQLException {
+        if (!this.schemaVerified) {
+            MySQLHelper.execute(connection, "CREATE TABLE IF NOT EXISTS " + this.table + " (path varchar(256) CHARACTER SET utf8 NOT NULL, type varchar(16) CHARACTER SET utf8 NOT NULL, value varchar(4096) CHARACTER SET utf8, PRIMARY KEY (path)) CHARACTER SET utf8;");
+
+            try (ResultSet result = MySQLHelper.query(connection, "DESCRIBE " + this.table + ";")) {
+                boolean typeExists = false;
 
-        while (!this.getConnected()) {
-            this.reconnectAttempts++;
+                while (result.next()) {
+                    String name = result.getString("Field");
+                    if (name.equals("type")) {
+                        typeExists = true;
+                    }
+                }
 
+                if (!typeExists) {
+                    MySQLHelper.execute(connection, "ALTER TABLE " + this.table + " ADD COLUMN type varchar(16) CHARACTER SET utf8 NOT NULL AFTER path;");
+
+                    MySQLHelper.execute(connection, "UPDATE " + this.table + " SET type='STRING';");
+                }
+            }
+
+            this.schemaVerified = true;
+        }
+    }
+
+    /**
+     * Connect to the server if the driver is not connected, failing fast while the server can not be reached
+     *
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected void ensureConnected() {
+        this.reconnect.ensureConnected();
+    }
+
+    /**
+     * Run an operation on a connection, connecting if necessary
+     * <p>
+     * If the operation fails because the connection is broken the connection is discarded and the operation is run once more on a new connection
+     *
+     * @param operation The operation to run
+     * @param <R>       The type of the value returned by the operation
+     *
+     * @return The value returned by the operation
+     *
+     * @throws MySQLException       If the operation failed
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected <R> R withConnection(@NotNull MySQLHelper.Operation<R> operation) {
+        for (int attempt = 0; ; attempt++) {
+            Connection connection = this.borrow();
             try {
-                this.connect();
-            } catch (IOException e) {
-                try {
-                    Thread.sleep((int) (Math.pow(2, this.reconnectAttempts) * 1000));
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
+                return operation.run(connection);
+            } catch (SQLException e) {
+                if (attempt > 0 || !MySQLHelper.isConnectionError(e)) {
+                    throw new MySQLException(e);
                 }
 
-                if (this.reconnectAttempts > 5) {
-                    throw new MaximumReconnectsException(e);
+                this.discard(connection);
+            } catch (MySQLException e) {
+                if (attempt > 0 || !(e.getCause() instanceof SQLException) || !MySQLHelper.isConnectionError((SQLException) e.getCause())) {
+                    throw e;
                 }
+
+                this.discard(connection);
+            } finally {
+                this.release(connection);
+            }
+        }
+    }
+
+    /**
+     * Run an operation on a connection, connecting if necessary
+     * <p>
+     * If the operation fails because the connection is broken the connection is discarded and the operation is run once more on a new connection
+     *
+     * @param operation The operation to run
+     *
+     * @throws MySQLException       If the operation failed
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected void withConnection(@NotNull MySQLHelper.VoidOperation operation) {
+        this.withConnection(connection -> {
+            operation.run(connection);
+            return null;
+        });
+    }
+
+    /**
+     * Discard a broken connection so the next operation reconnects
+     * <p>
+     * Connections from a data source are aborted so the data source drops them instead of lending them out again
+     *
+     * @param connection The broken connection
+     *
+     * @since 5.1.0
+     */
+    protected void discard(@NotNull Connection connection) {
+        if (this.dataSource != null) {
+            try {
+                connection.abort(ConfigExecutors.getDefault());
+            } catch (SQLException | SecurityException ignored) {
+            }
+        } else if (connection == this.connection) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
             }
+        }
+    }
+
+    /**
+     * Check the connection is alive, reconnecting if it is not
+     * <p>
+     * Run every heartbeat interval so a broken connection is replaced before the next operation needs it, and so the server does not close an idle connection.
+     * If reconnecting fails the circuit opens and the {@link ReconnectManager} keeps trying in the background.
+     *
+     * @since 5.1.0
+     */
+    protected void heartbeat() {
+        Connection connection = this.connection;
+        if (this.closed || this.dataSource != null || connection == null) {
+            return;
+        }
 
-            if (this.reconnectAttempts > 5) {
-                throw new MaximumReconnectsException();
+        boolean valid;
+        try {
+            valid = connection.isValid(1);
+        } catch (SQLException e) {
+            valid = false;
+        }
+
+        if (!valid) {
+            this.discard(connection);
+
+            try {
+                this.reconnect.ensureConnected();
+            } catch (RuntimeException ignored) {
             }
         }
+    }
+
+    /**
+     * Get a connection to the server, connecting if necessary
+     * <p>
+     * A connection borrowed from a data source must be given back with {@link #release(Connection)}
+     *
+     * @return A connection to the server
+     *
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected @NotNull Connection borrow() {
+        this.ensureConnected();
+
+        if (this.dataSource != null) {
+            try {
+                return this.dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new MySQLException(e);
+            }
+        }
+
         assert this.connection != null;
+        return this.connection;
+    }
 
-        synchronized (SAVELOAD_LOCK) {
-            ParsedObject object = ParsedObject.create();
+    /**
+     * Give back a connection from {@link #borrow()}
+     *
+     * @param connection The connection to give back
+     *
+     * @since 5.1.0
+     */
+    protected void release(@NotNull Connection connection) {
+        if (this.dataSource != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                throw new MySQLException(e);
+            }
+        }
+    }
 
-            try (ResultSet result = MySQLHelper.query(this.connection, "SELECT path,type,value FROM " + this.table)) {
-                while (result.next()) {
-                    String path = result.getString("path");
-                    String type = result.getString("type").toUpperCase();
-                    ParsedPrimitive.PrimitiveType primitiveType = ParsedPrimitive.PrimitiveType.valueOf(type);
-                    String value = result.getString("value");
-
-                    ParsedPrimitive element;
-                    switch (primitiveType) {
-                        case STRING: {
-                            element = ParsedPrimitive.fromString(value);
-                            break;
-                        }
-                        case BYTE: {
-                            element = ParsedPrimitive.fromByte(Byte.parseByte(value));
-                            break;
-                        }
-                        case CHAR: {
-                            element = ParsedPrimitive.fromChar((char) Short.parseShort(value));
-                            break;
-                        }
-                        case SHORT: {
-                            element = ParsedPrimitive.fromShort(Short.parseShort(value));
-                            break;
-                        }
-                        case INTEGER: {
-                            element = ParsedPrimitive.fromInteger(Integer.parseInt(value));
-                            break;
-                        }
-                        case LONG: {
-                            element = ParsedPrimitive.fromLong(Long.parseLong(value));
-                            break;
-                        }
-                        case BIGINTEGER: {
-                            element = ParsedPrimitive.fromBigInteger(BigIntegerParser.parseWithFastParser(value));
-                            break;
-                        }
-                        case FLOAT: {
-                            element = ParsedPrimitive.fromFloat(Float.parseFloat(value));
-                            break;
-                        }
-                        case DOUBLE: {
-                            element = ParsedPrimitive.fromDouble(Double.parseDouble(value));
-                            break;
-                        }
-                        case BIGDECIMAL: {
-                            element = ParsedPrimitive.fromBigDecimal(BigDecimalParser.parse(value));
-                            break;
-                        }
-                        case BOOLEAN: {
-                            element = ParsedPrimitive.fromBoolean(Boolean.parseBoolean(value));
-                            break;
-                        }
-                        case NULL: {
-                            element = ParsedPrimitive.fromNull();
-                            break;
-                        }
-                        default: {
-                            throw new RuntimeException();
+    /**
+     * Load the config
+     *
+     * @param save Weather to save the config after loaded (To update the template)
+     *
+     * @throws IOException On load error
+     * @since 1.3.0
+     */
+    @Override
+    public void load(boolean save) throws IOException {
+        this.load(save, false);
+    }
+
+    /**
+     * Load the config
+     *
+     * @param save        Weather to save the config after loaded (To update the template)
+     * @param keepUnsaved Weather to keep the current config if it has changes that have not been saved, see {@link #keepUnsaved()}
+     *
+     * @throws IOException On load error
+     * @since 5.1.0
+     */
+    protected void load(boolean save, boolean keepUnsaved) throws IOException {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        try {
+            this.withConnection(connection -> {
+                synchronized (SAVELOAD_LOCK) {
+                    if (keepUnsaved && this.keepUnsaved()) {
+                        return;
+                    }
+
+                    ParsedObject object = ParsedObject.create();
+
+                    try (ResultSet result = MySQLHelper.query(connection, "SELECT path,type,value FROM " + this.table)) {
+                        while (result.next()) {
+                            String path = result.getString("path");
+                            String type = result.getString("type").toUpperCase();
+                            ParsedPrimitive.PrimitiveType primitiveType = ParsedPrimitive.PrimitiveType.valueOf(type);
+                            String value = result.getString("value");
+
+                            ParsedPrimitive element;
+                            switch (primitiveType) {
+                                case STRING: {
+                                    element = ParsedPrimitive.fromString(value);
+                                    break;
+                                }
+                                case BYTE: {
+                                    element = ParsedPrimitive.fromByte(Byte.parseByte(value));
+                                    break;
+                                }
+                                case CHAR: {
+                                    element = ParsedPrimitive.fromChar((char) Short.parseShort(value));
+                                    break;
+                                }
+                                case SHORT: {
+                                    element = ParsedPrimitive.fromShort(Short.parseShort(value));
+                                    break;
+                                }
+                                case INTEGER: {
+                                    element = ParsedPrimitive.fromInteger(Integer.parseInt(value));
+                                    break;
+                                }
+                                case LONG: {
+                                    element = ParsedPrimitive.fromLong(Long.parseLong(value));
+                                    break;
+                                }
+                                case BIGINTEGER: {
+                                    element = ParsedPrimitive.fromBigInteger(BigIntegerParser.parseWithFastParser(value));
+                                    break;
+                                }
+                                case FLOAT: {
+                                    element = ParsedPrimitive.fromFloat(Float.parseFloat(value));
+                                    break;
+                                }
+                                case DOUBLE: {
+                                    element = ParsedPrimitive.fromDouble(Double.parseDouble(value));
+                                    break;
+                                }
+                                case BIGDECIMAL: {
+                                    element = ParsedPrimitive.fromBigDecimal(BigDecimalParser.parse(value));
+                                    break;
+                                }
+                                case BOOLEAN: {
+                                    element = ParsedPrimitive.fromBoolean(Boolean.parseBoolean(value));
+                                    break;
+                                }
+                                case NULL: {
+                                    element = ParsedPrimitive.fromNull();
+                                    break;
+                                }
+                                default: {
+                                    throw new RuntimeException();
+                                }
+                            }
+
+                            PathResolver.updateElement(object, ConfigPath.compile(path), element, true);
                         }
                     }
 
-                    PathResolver.updateElement(object, path, element, true);
-                }
-            } catch (SQLException e) {
-                throw new IOException(e);
-            }
+                    T config = this.processor.toObject(object, this.clazz);
 
-            this.config = this.processor.toObject(object, this.clazz);
-            this.configExpires = Instant.now().plus(this.cacheLength);
+                    ParsedObject oldBackup = this.configBackup;
+                    this.configBackup = object;
+                    this.backupHashes = new ParsedHash();
+                    this.configExpires = Instant.now().plus(this.cacheLength);
+                    this.unsavedSince = null;
 
-            this.configBackup = object;
+                    this.config = config;
+
+                    this.dispatchChanges(oldBackup, object);
+                }
+            });
+        } catch (MySQLException e) {
+            throw new IOException(e.getCause());
         }
 
         if (save) {
@@ -392,8 +791,67 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
         }
     }
 
+    /**
+     * Check if a background reload should keep the current config, pushing back the expiry if so
+     * <p>
+     * Must be called while holding {@link #SAVELOAD_LOCK}.
+     * Once the changes have been kept for the max staleness they are no longer compared and the next reload replaces them.
+     *
+     * @return If the config has changes that have not been saved and has not kept them for longer than the max staleness
+     *
+     * @since 5.1.0
+     */
+    protected boolean keepUnsaved() {
+        Instant now = Instant.now();
+
+        Instant unsavedSince = this.unsavedSince;
+        if (unsavedSince != null && this.maxStaleness != null && !now.isBefore(unsavedSince.plus(this.maxStaleness))) {
+            return false;
+        }
+
+        if (!this.hasUnsavedChanges()) {
+            return false;
+        }
+
+        if (unsavedSince == null) {
+            this.unsavedSince = now;
+        }
+        this.configExpires = now.plus(this.cacheLength);
+        return true;
+    }
+
+    /**
+     * Get if the config has changes that have not been saved
+     * <p>
+     * Must be called while holding {@link #SAVELOAD_LOCK}
+     *
+     * @return If the config differs from the data that was last loaded or saved
+     *
+     * @since 5.1.0
+     */
+    protected boolean hasUnsavedChanges() {
+        if (this.config == null || this.configBackup == null) {
+            return false;
+        }
+
+        return !new ParsedHash().equal(this.processor.toElement(this.config), this.configBackup);
+    }
+
+    /**
+     * Get the error from the last background reload
+     *
+     * @return The error from the last background reload or null if it succeeded or no reload has run
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Exception getRefreshError() {
+        return this.refreshError;
+    }
+
     /**
      * Save the config to the server
+     * <p>
+     * Only the values that differ from the data that was last fetched or saved are written, branches whose structural hash did not change are skipped without being walked
      *
      * @throws IOException On save error
      * @since 1.0.0
@@ -407,70 +865,56 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
             throw new ConfigNotLoadedException();
         }
 
-        while (!this.getConnected()) {
-            this.reconnectAttempts++;
-
-            try {
-                this.connect();
-            } catch (IOException e) {
-                try {
-                    Thread.sleep((int) (Math.pow(2, this.reconnectAttempts) * 1000));
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                }
-
-                if (this.reconnectAttempts > 5) {
-                    throw new MaximumReconnectsException(e);
-                }
-            }
-
-            if (this.reconnectAttempts > 5) {
-                throw new MaximumReconnectsException();
-            }
-        }
-        assert this.connection != null;
-
-        synchronized (SAVELOAD_LOCK) {
-            ParsedObject object = this.processor.toElement(this.config).asObject();
-            Set<String> keys = PathResolver.getKeys(object, false);
-            Set<String> oldKeys = PathResolver.getKeys(this.configBackup, false);
+        try {
+            this.withConnection(connection -> {
+                synchronized (SAVELOAD_LOCK) {
+                    ParsedObject object = this.processor.toElement(this.config).asObject();
+
+                    List<String> queryArgs = new ArrayList<>();
+                    List<String> toDelete = new ArrayList<>();
+                    ParsedObject oldBackup = this.configBackup;
+                    ParsedHash hashes = this.backupHashes;
+
+                    ParsedDiff.diff(oldBackup, object, new ParsedDiff.Visitor() {
+                        @Override
+                        public void added(@NotNull String path, @NotNull ParsedPrimitive value) {
+                            queryArgs.add(path);
+                            queryArgs.add(value.getType().name());
+                            queryArgs.add(!value.isNull() ? value.get().toString() : "null");
+                        }
 
-            Set<String> toDelete = new HashSet<>(oldKeys);
-            toDelete.removeAll(keys);
+                        @Override
+                        public void removed(@NotNull String path, @NotNull ParsedPrimitive oldValue) {
+                            toDelete.add(path);
+                        }
 
-            List<String> queryArgs = new ArrayList<>();
-            for (String key : keys) {
-                ParsedElement valueElement = PathResolver.resolveElement(object, key);
-                ParsedElement oldValueElement = PathResolver.resolveElement(this.configBackup, key);
+                        @Override
+                        public void changed(@NotNull String path, @NotNull ParsedPrimitive oldValue, @NotNull ParsedPrimitive newValue) {
+                            this.added(path, newValue);
+                        }
+                    }, hashes);
 
-                if (valueElement != null && oldValueElement != null) {
-                    ParsedPrimitive value = valueElement.asPrimitive();
-                    ParsedPrimitive oldValue = oldValueElement.asPrimitive();
+                    boolean saved = false;
+                    try {
+                        if (!queryArgs.isEmpty()) {
+                            MySQLHelper.executeBatch(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", 3, queryArgs);
+                        }
 
-                    Object valueObj = value.get();
-                    Object oldValueObj = oldValue.get();
+                        if (!toDelete.isEmpty()) {
+                            MySQLHelper.executeBatch(connection, "DELETE FROM " + this.table + " WHERE path=?;", 1, toDelete);
+                        }
 
-                    if (!((value.isNull() && oldValue.isNull()) || (!value.isNull() && (valueObj == oldValueObj || valueObj.equals(oldValueObj))))) {
-                        queryArgs.add(key);
-                        queryArgs.add(value.getType().name());
-                        queryArgs.add(valueObj != null ? valueObj.toString() : "null");
+                        saved = true;
+                    } finally {
+                        hashes.invalidateTree(saved ? oldBackup : object);
                     }
-                }
-            }
-
-            this.configBackup = object;
 
-            try {
-                if (!queryArgs.isEmpty()) {
-                    MySQLHelper.executeBatch(this.connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", 3, queryArgs);
-                }
-
-                if (!toDelete.isEmpty()) {
-                    MySQLHelper.executeBatch(this.connection, "DELETE FROM " + this.table + " WHERE path=?;", 1, List.copyOf(toDelete));
+                    this.configBackup = object;
+                    this.unsavedSince = null;
                 }
-            } catch (SQLException e) {
-                throw new IOException(e);
-            }
+            });
+        } catch (MySQLException e) {
+            throw new IOException(e.getCause());
         }
     }
 
@@ -486,7 +930,14 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
             throw new ConfigClosedException();
         }
 
-        this.closed = true;
+        synchronized (SAVELOAD_LOCK) {
+            this.closed = true;
+
+            if (this.heartbeat != null) {
+                this.heartbeat.cancel(false);
+            }
+        }
+        this.reconnect.close();
 
         try {
             if (this.connection != null) {
@@ -497,6 +948,17 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
         }
     }
 
+    /**
+     * Get the manager of reconnects, to check the state of the circuit breaker or listen to its changes
+     *
+     * @return The manager of reconnects
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ReconnectManager getReconnectManager() {
+        return this.reconnect;
+    }
+
     /**
      * Get if the config is closed
      *
@@ -508,10 +970,24 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
         return this.closed;
     }
 
+    /**
+     * Get the ObjectProcessor used to convert the data being stored to and from elements
+     *
+     * @return The ObjectProcessor to use
+     *
+     * @since 5.1.0
+     */
+    @Override
+    protected @NotNull ObjectProcessor getProcessor() {
+        return this.processor;
+    }
+
     /**
      * A builder class for creating new {@link StructuredMySQLConfig}s
+     * <p>
+     * The heartbeat task is started when the config connects, so a built config must be closed with {@link StructuredMySQLConfig#close()} once it is no longer used
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder<T> {
@@ -586,6 +1062,60 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
          */
         protected @NotNull Duration cacheLength = Duration.ofMillis(1000);
 
+        /**
+         * The data source to borrow connections from or null to use a single connection
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable DataSource dataSource = null;
+
+        /**
+         * If the connection is validated with a ping before every operation
+         * <p>
+         * Default is true
+         *
+         * @since 5.1.0
+         */
+        protected boolean validateOnUse = true;
+
+        /**
+         * How often the connection is checked in the background or null to not check it
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration heartbeatInterval = null;
+
+        /**
+         * The delay before the first background reconnect, doubled after every failure
+         * <p>
+         * Default is 1s
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration reconnectDelay = Duration.ofSeconds(1);
+
+        /**
+         * The maximum delay between background reconnects
+         * <p>
+         * Default is 30s
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration maxReconnectDelay = Duration.ofSeconds(30);
+
+        /**
+         * How long an expired config is served while it is reloaded in the background or null to reload on the caller's thread
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration maxStaleness = null;
+
         /**
          * Create an {@link StructuredMySQLConfig} builder
          *
@@ -934,6 +1464,195 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
             return this;
         }
 
+        /**
+         * Get the data source to borrow connections from
+         * <p>
+         * Default is null
+         *
+         * @return The data source to borrow connections from or null to use a single connection
+         *
+         * @since 5.1.0
+         */
+        public @Nullable DataSource getDataSource() {
+            return this.dataSource;
+        }
+
+        /**
+         * Set the data source to borrow connections from
+         * <p>
+         * When set a connection is borrowed for every operation instead of keeping a single connection open, so many configs can share a {@link MySQLConnectionPool} or any other pool.
+         * The address, database, username, password and driver of this builder are not used to connect, and the data source is not closed when the config is.
+         * <p>
+         * Default is null
+         *
+         * @param dataSource The data source to borrow connections from or null to use a single connection
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setDataSource(@Nullable DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        /**
+         * Get if the connection is validated with a ping before every operation
+         * <p>
+         * Default is true
+         *
+         * @return If the connection is validated with a ping before every operation
+         *
+         * @since 5.1.0
+         */
+        public boolean getValidateOnUse() {
+            return this.validateOnUse;
+        }
+
+        /**
+         * Set if the connection is validated with a ping before every operation
+         * <p>
+         * When false the connection is trusted until an operation fails because it is broken, then it is reconnected and the operation is run once more.
+         * This saves a round trip on every operation.
+         * <p>
+         * Default is true
+         *
+         * @param validateOnUse If the connection is validated with a ping before every operation
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setValidateOnUse(boolean validateOnUse) {
+            this.validateOnUse = validateOnUse;
+            return this;
+        }
+
+        /**
+         * Get how often the connection is checked in the background
+         * <p>
+         * Default is null
+         *
+         * @return How often the connection is checked in the background or null to not check it
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getHeartbeatInterval() {
+            return this.heartbeatInterval;
+        }
+
+        /**
+         * Set how often the connection is checked in the background
+         * <p>
+         * A broken connection is reconnected before the next operation needs it, and the check keeps the server from closing an idle connection.
+         * Not used with a data source.
+         * <p>
+         * Default is null
+         *
+         * @param heartbeatInterval How often the connection is checked in the background or null to not check it
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setHeartbeatInterval(@Nullable Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+            return this;
+        }
+
+        /**
+         * Get the delay before the first background reconnect
+         * <p>
+         * Default is 1s
+         *
+         * @return The delay before the first background reconnect
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getReconnectDelay() {
+            return this.reconnectDelay;
+        }
+
+        /**
+         * Set the delay before the first background reconnect
+         * <p>
+         * The delay is doubled after every failed reconnect up to the maximum delay, and a random part of it is skipped so many configs do not reconnect at once.
+         * <p>
+         * Default is 1s
+         *
+         * @param reconnectDelay The delay before the first background reconnect
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setReconnectDelay(@NotNull Duration reconnectDelay) {
+            this.reconnectDelay = reconnectDelay;
+            return this;
+        }
+
+        /**
+         * Get the maximum delay between background reconnects
+         * <p>
+         * Default is 30s
+         *
+         * @return The maximum delay between background reconnects
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getMaxReconnectDelay() {
+            return this.maxReconnectDelay;
+        }
+
+        /**
+         * Set the maximum delay between background reconnects
+         * <p>
+         * Default is 30s
+         *
+         * @param maxReconnectDelay The maximum delay between background reconnects
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setMaxReconnectDelay(@NotNull Duration maxReconnectDelay) {
+            this.maxReconnectDelay = maxReconnectDelay;
+            return this;
+        }
+
+        /**
+         * Get how long an expired config is served while it is reloaded in the background
+         * <p>
+         * Default is null
+         *
+         * @return How long an expired config is served while it is reloaded in the background or null to reload on the caller's thread
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getMaxStaleness() {
+            return this.maxStaleness;
+        }
+
+        /**
+         * Set how long an expired config is served while it is reloaded in the background
+         * <p>
+         * Once the config has been cached for the cache length the next get starts a background reload and keeps returning the cached config.
+         * A background reload does not replace a config with changes that have not been saved until they have been kept for the max staleness, and its errors are kept for {@link StructuredMySQLConfig#getRefreshError()}.
+         * Only when the config has been expired for longer than the max staleness does a get wait for the reload, so the table is never read on the caller's thread while the server is healthy.
+         * <p>
+         * Default is null
+         *
+         * @param maxStaleness How long an expired config is served while it is reloaded in the background or null to reload on the caller's thread
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder<T> setMaxStaleness(@Nullable Duration maxStaleness) {
+            this.maxStaleness = maxStaleness;
+            return this;
+        }
+
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.mysql.StructuredMySQLConfig}
          *
@@ -942,7 +1661,7 @@ public class StructuredMySQLConfig<T> extends StructuredConfig<T> {
          * @since 4.0.0
          */
         public @NotNull StructuredMySQLConfig<T> build() {
-            return new StructuredMySQLConfig<>(this.clazz, this.address, this.database, this.table, this.username, this.password, this.useMariadb, this.cacheLength, this.processor);
+            return new StructuredMySQLConfig<>(this.clazz, this.address, this.database, this.table, this.username, this.password, this.useMariadb, this.cacheLength, this.processor, this.dataSource, this.validateOnUse, this.heartbeatInterval, this.reconnectDelay, this.maxReconnectDelay, this.maxStaleness);
         }
     }
 }
\ No newline at end of file
@@ -2,28 +2,53 @@ package io.github.kale_ko.ejcl.mysql;
 
 import com.fasterxml.jackson.core.io.BigDecimalParser;
 import com.fasterxml.jackson.core.io.BigIntegerParser;
+import io.github.kale_ko.bjsl.elements.ParsedObject;
 import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
 import io.github.kale_ko.bjsl.processor.ObjectProcessor;
+import io.github.kale_ko.ejcl.ConfigBatch;
+import io.github.kale_ko.ejcl.ConfigExecutors;
+import io.github.kale_ko.ejcl.ConfigPath;
+import io.github.kale_ko.ejcl.PathResolver;
 import io.github.kale_ko.ejcl.UnstructuredConfig;
+import io.github.kale_ko.ejcl.event.ConfigChange;
 import io.github.kale_ko.ejcl.exception.ConfigClosedException;
+import io.github.kale_ko.ejcl.exception.mysql.CircuitOpenException;
 import io.github.kale_ko.ejcl.exception.mysql.DriverLoadException;
-import io.github.kale_ko.ejcl.exception.mysql.MaximumReconnectsException;
 import io.github.kale_ko.ejcl.exception.mysql.MySQLException;
 import io.github.kale_ko.ejcl.mysql.helper.MySQLHelper;
+import io.github.kale_ko.ejcl.mysql.helper.QueryResult;
+import io.github.kale_ko.ejcl.mysql.helper.StatementCache;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.text.Normalizer;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.sql.DataSource;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * An Unstructured MySQL Config for storing data on a MySQL or MariaDB server
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 3.0.0
  */
 public class UnstructuredMySQLConfig extends UnstructuredConfig {
@@ -76,13 +101,31 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
      */
     protected @Nullable Connection connection;
 
+    /**
+     * The lock guarding the single connection when not using a data source
+     * <p>
+     * Statements hold the read lock so they can run at the same time, a transaction holds the write lock so no other statement joins it or reads its uncommitted rows
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ReentrantReadWriteLock connectionLock = new ReentrantReadWriteLock();
+
     /**
      * How many times we have tried to reconnect
      *
      * @since 2.3.0
+     * @deprecated Reconnects are tracked by the {@link ReconnectManager}, see {@link #getReconnectManager()}
      */
+    @Deprecated(since="5.1.0")
     protected int reconnectAttempts = 0;
 
+    /**
+     * The manager of reconnects and the circuit breaker
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ReconnectManager reconnect;
+
     /**
      * The lock used when saving and loading the config
      *
@@ -97,6 +140,129 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
      */
     protected boolean closed = false;
 
+    /**
+     * The data source to borrow connections from or null to use a single connection
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable DataSource dataSource;
+
+    /**
+     * If the table has been prepared through the data source
+     *
+     * @since 5.1.0
+     */
+    protected volatile boolean prepared = false;
+
+    /**
+     * If the connection is validated with a ping before every operation
+     *
+     * @since 5.1.0
+     */
+    protected final boolean validateOnUse;
+
+    /**
+     * How often the connection is checked in the background or null to not check it
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable Duration heartbeatInterval;
+
+    /**
+     * The task checking the connection every heartbeat interval or null if it has not been started
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ScheduledFuture<?> heartbeat = null;
+
+    /**
+     * If the table has been created and updated, so reconnecting does not need to check it again
+     *
+     * @since 5.1.0
+     */
+    protected volatile boolean schemaVerified = false;
+
+    /**
+     * If paths are folded with {@link #foldKey(String)} before being used as keys
+     * <p>
+     * Only true when the path column is known to use a {@code utf8_general_ci} collation, otherwise paths are used as they are
+     *
+     * @since 5.1.0
+     */
+    protected volatile boolean foldKeys = false;
+
+    /**
+     * The maximum number of prepared statements cached on the connection or 0 to not cache statements
+     *
+     * @since 5.1.0
+     */
+    protected final int statementCacheSize;
+
+    /**
+     * The prepared statements cached on the connection or null
+     *
+     * @since 5.1.0
+     */
+    protected volatile @Nullable StatementCache statements = null;
+
+    /**
+     * The cache of values read from the server or null if values are not cached
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable NearCache nearCache;
+
+    /**
+     * Weather to keep the set of paths that exist on the server
+     *
+     * @since 5.1.0
+     */
+    protected final boolean useKeySet;
+
+    /**
+     * The paths that exist on the server or null if they are not known
+     * <p>
+     * Paths are stored as returned by {@link #foldKey(String)} so paths the table's collation treats as the same are the same entry
+     *
+     * @since 5.1.0
+     */
+    protected volatile @Nullable Set<String> keys = null;
+
+    /**
+     * The folded paths added while the key set is being rebuilt or null if it is not being rebuilt
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable Set<String> keysAdded = null;
+
+    /**
+     * The lock guarding changes to the key set
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Object KEYS_LOCK = new Object();
+
+    /**
+     * How often the key set is rebuilt
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Duration keySetRefresh;
+
+    /**
+     * The task rebuilding the key set or null if there is no key set or it has not been started
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ScheduledFuture<?> keysRefresh = null;
+
+    /**
+     * The queue of values waiting to be written or null if values are written immediately
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable WriteBehindQueue writeBehind;
+
     /**
      * Create a new UnstructuredMySQLConfig
      *
@@ -111,6 +277,36 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
      * @since 3.0.0
      */
     protected UnstructuredMySQLConfig(@NotNull InetSocketAddress address, @NotNull String database, @NotNull String table, @Nullable String username, @Nullable String password, boolean useMariadb, @NotNull ObjectProcessor processor) {
+        this(address, database, table, username, password, useMariadb, processor, null, 1024, false, Duration.ofMinutes(5), null, 10000, WriteBehindQueue.OverflowPolicy.BLOCK, null, 32, true, null, Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+
+    /**
+     * Create a new UnstructuredMySQLConfig
+     *
+     * @param address             The address of the server
+     * @param database            The database on the server
+     * @param table               The table of the database
+     * @param username            The username to the server
+     * @param password            The password to the server
+     * @param useMariadb          Weather to use the MariaDB driver
+     * @param processor           The ObjectProcessor to use for serialization/deserialization
+     * @param nearCacheTtl        How long values are cached for or null to not cache values
+     * @param nearCacheSize       The maximum number of values cached
+     * @param useKeySet           Weather to keep the set of paths that exist on the server
+     * @param keySetRefresh       How often the set of paths is rebuilt
+     * @param writeBehindInterval How often queued values are written or null to write values immediately
+     * @param writeBehindSize     The maximum number of queued values
+     * @param writeBehindPolicy   What to do when a value is set while the queue is full
+     * @param dataSource          The data source to borrow connections from or null to use a single connection
+     * @param statementCacheSize  The maximum number of prepared statements cached on the connection or 0 to not cache statements
+     * @param validateOnUse       If the connection is validated with a ping before every operation
+     * @param heartbeatInterval   How often the connection is checked in the background or null to not check it
+     * @param reconnectDelay      The delay before the first background reconnect, doubled after every failure
+     * @param maxReconnectDelay   The maximum delay between background reconnects
+     *
+     * @since 5.1.0
+     */
+    protected UnstructuredMySQLConfig(@NotNull InetSocketAddress address, @NotNull String database, @NotNull String table, @Nullable String username, @Nullable String password, boolean useMariadb, @NotNull ObjectProcessor processor, @Nullable Duration nearCacheTtl, int nearCacheSize, boolean useKeySet, @NotNull Duration keySetRefresh, @Nullable Duration writeBehindInterval, int writeBehindSize, @NotNull WriteBehindQueue.OverflowPolicy writeBehindPolicy, @Nullable DataSource dataSource, int statementCacheSize, boolean validateOnUse, @Nullable Duration heartbeatInterval, @NotNull Duration reconnectDelay, @NotNull Duration maxReconnectDelay) {
         super(processor);
 
         this.address = address;
@@ -122,6 +318,20 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
         this.password = password;
 
         this.useMariadb = useMariadb;
+
+        this.dataSource = dataSource;
+        this.statementCacheSize = statementCacheSize;
+
+        this.validateOnUse = validateOnUse;
+        this.reconnect = new ReconnectManager(this::connect, this::getConnected, reconnectDelay, maxReconnectDelay, ConfigExecutors.getDefault(), ConfigExecutors.getScheduler());
+        this.heartbeatInterval = heartbeatInterval;
+
+        this.nearCache = nearCacheTtl != null ? new NearCache(nearCacheTtl, nearCacheSize) : null;
+
+        this.useKeySet = useKeySet;
+        this.keySetRefresh = keySetRefresh;
+
+        this.writeBehind = writeBehindInterval != null ? new WriteBehindQueue(this::writeValues, writeBehindInterval, writeBehindSize, writeBehindPolicy, this::invalidateDropped, ConfigExecutors.getDefault(), ConfigExecutors.getScheduler()) : null;
     }
 
     /**
@@ -139,295 +349,1643 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
             throw new ConfigClosedException();
         }
 
-        while (!this.getConnected()) {
-            this.reconnectAttempts++;
+        if (this.writeBehind != null) {
+            Object queued = this.writeBehind.get(path);
+            if (queued != WriteBehindQueue.MISSING) {
+                return queued;
+            }
+        }
 
-            try {
-                this.connect();
-            } catch (IOException e) {
-                try {
-                    Thread.sleep((int) (Math.pow(2, this.reconnectAttempts) * 1000));
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
+        NearCache nearCache = this.nearCache;
+        if (nearCache != null) {
+            Object cached = nearCache.get(foldKey(path));
+            if (cached != NearCache.MISSING) {
+                return cached;
+            }
+        }
+        long stamp = nearCache != null ? nearCache.getStamp() : 0;
+
+        if (!this.mayExist(path)) {
+            return null;
+        }
+
+        return this.withConnection(connection -> {
+            try (QueryResult query = this.query(connection, "SELECT type,value FROM " + this.table + " WHERE path=?", path)) {
+                ResultSet result = query.getResultSet();
+                Object parsedValue = null;
+
+                while (result.next()) {
+                    parsedValue = parseValue(result.getString("type"), result.getString("value"));
                 }
 
-                if (this.reconnectAttempts > 5) {
-                    throw new MaximumReconnectsException(e);
+                if (nearCache != null) {
+                    nearCache.load(foldKey(path), parsedValue, stamp);
                 }
-            }
 
-            if (this.reconnectAttempts > 5) {
-                throw new MaximumReconnectsException();
+                return parsedValue;
             }
+        });
+    }
+
+    /**
+     * Get a path being stored
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public @Nullable Object get(@NotNull ConfigPath path) {
+        return this.get(path.toString());
+    }
+
+    /**
+     * Get a path being stored as an int
+     * <p>
+     * The value is converted the same way as {@link Number#intValue()}
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public int getInt(@NotNull ConfigPath path, int defaultValue) {
+        Number value = this.getNumber(path);
+        return value != null ? value.intValue() : defaultValue;
+    }
+
+    /**
+     * Get a path being stored as a long
+     * <p>
+     * Integral values are read exactly and floating point values are converted the same way as {@link Number#longValue()}
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public long getLong(@NotNull ConfigPath path, long defaultValue) {
+        Number value = this.getNumber(path);
+        return value != null ? value.longValue() : defaultValue;
+    }
+
+    /**
+     * Get a path being stored as a number
+     * <p>
+     * Integral values are read with {@link ResultSet#getLong(String)} and big values are parsed exactly, only floating point values are read as a double
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored or null if the path is not set or is not a number
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable Number getNumber(@NotNull ConfigPath path) {
+        if (this.closed) {
+            throw new ConfigClosedException();
         }
 
-        assert this.connection != null;
+        if (this.nearCache != null || this.writeBehind != null) {
+            Object value = this.get(path.toString());
+            return value instanceof Number ? (Number) value : null;
+        }
 
-        try (ResultSet result = MySQLHelper.query(this.connection, "SELECT type,value FROM " + this.table + " WHERE path=?", path)) {
-            Object parsedValue = null;
+        if (!this.mayExist(path.toString())) {
+            return null;
+        }
 
-            while (result.next()) {
-                String type = result.getString("type").toUpperCase();
-                ParsedPrimitive.PrimitiveType primitiveType = ParsedPrimitive.PrimitiveType.valueOf(type);
-                String value = result.getString("value");
-
-                switch (primitiveType) {
-                    case STRING: {
-                        parsedValue = value;
-                        break;
-                    }
-                    case BYTE: {
-                        parsedValue = Byte.parseByte(value);
-                        break;
-                    }
-                    case CHAR: {
-                        parsedValue = (char) Short.parseShort(value);
-                        break;
-                    }
-                    case SHORT: {
-                        parsedValue = Short.parseShort(value);
-                        break;
-                    }
-                    case INTEGER: {
-                        parsedValue = Integer.parseInt(value);
-                        break;
-                    }
-                    case LONG: {
-                        parsedValue = Long.parseLong(value);
-                        break;
-                    }
-                    case BIGINTEGER: {
-                        parsedValue = BigIntegerParser.parseWithFastParser(value);
-                        break;
-                    }
-                    case FLOAT: {
-                        parsedValue = Float.parseFloat(value);
-                        break;
-                    }
-                    case DOUBLE: {
-                        parsedValue = Double.parseDouble(value);
-                        break;
-                    }
-                    case BIGDECIMAL: {
-                        parsedValue = BigDecimalParser.parse(value);
-                        break;
-                    }
-                    case BOOLEAN: {
-                        parsedValue = Boolean.parseBoolean(value);
-                        break;
-                    }
-                    case NULL: {
-                        parsedValue = null;
-                        break;
+        return this.withConnection(connection -> {
+            try (QueryResult query = this.query(connection, "SELECT type,value FROM " + this.table + " WHERE path=?", path.toString())) {
+                ResultSet result = query.getResultSet();
+                if (result.next()) {
+                    switch (ParsedPrimitive.PrimitiveType.valueOf(result.getString("type").toUpperCase())) {
+                        case BYTE:
+                        case SHORT:
+                        case INTEGER:
+                        case LONG: {
+                            return result.getLong("value");
+                        }
+                        case BIGINTEGER: {
+                            return BigIntegerParser.parseWithFastParser(result.getString("value"));
+                        }
+                        case FLOAT:
+                        case DOUBLE: {
+                            return result.getDouble("value");
+                        }
+                        case BIGDECIMAL: {
+                            return BigDecimalParser.parse(result.getString("value"));
+                        }
+                        default: {
+                            break;
+                        }
                     }
-                    default: {
-                        throw new RuntimeException();
+                }
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Get a path being stored as a double
+     * <p>
+     * The value is read from the result by the driver without going through a boxed or String value
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a number
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public double getDouble(@NotNull ConfigPath path, double defaultValue) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.nearCache != null || this.writeBehind != null) {
+            Object value = this.get(path.toString());
+            return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+        }
+
+        if (!this.mayExist(path.toString())) {
+            return defaultValue;
+        }
+
+        return this.withConnection(connection -> {
+            try (QueryResult query = this.query(connection, "SELECT type,value FROM " + this.table + " WHERE path=?", path.toString())) {
+                ResultSet result = query.getResultSet();
+                if (result.next()) {
+                    switch (ParsedPrimitive.PrimitiveType.valueOf(result.getString("type").toUpperCase())) {
+                        case BYTE:
+                        case SHORT:
+                        case INTEGER:
+                        case LONG:
+                        case BIGINTEGER:
+                        case FLOAT:
+                        case DOUBLE:
+                        case BIGDECIMAL: {
+                            return result.getDouble("value");
+                        }
+                        default: {
+                            break;
+                        }
                     }
                 }
+
+                return defaultValue;
             }
+        });
+    }
 
-            return parsedValue;
-        } catch (SQLException e) {
-            throw new MySQLException(e);
+    /**
+     * Get a path being stored as a boolean
+     *
+     * @param path         The path to get
+     * @param defaultValue The value to return if the path is not set or is not a boolean
+     *
+     * @return The value being stored or defaultValue
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public boolean getBoolean(@NotNull ConfigPath path, boolean defaultValue) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.nearCache != null || this.writeBehind != null) {
+            Object value = this.get(path.toString());
+            return value instanceof Boolean ? (Boolean) value : defaultValue;
+        }
+
+        if (!this.mayExist(path.toString())) {
+            return defaultValue;
         }
+
+        return this.withConnection(connection -> {
+            try (QueryResult query = this.query(connection, "SELECT type,value FROM " + this.table + " WHERE path=?", path.toString())) {
+                ResultSet result = query.getResultSet();
+                if (result.next() && ParsedPrimitive.PrimitiveType.valueOf(result.getString("type").toUpperCase()) == ParsedPrimitive.PrimitiveType.BOOLEAN) {
+                    return Boolean.parseBoolean(result.getString("value"));
+                }
+
+                return defaultValue;
+            }
+        });
     }
 
     /**
-     * Get a path being stored
+     * Get many paths being stored
      * <p>
-     * This method <b>will not</b> check if the connection is open before attempting to query the database
+     * The values are read with one {@code WHERE path IN (...)} query per {@link MySQLHelper#MAX_PARAMETERS} paths instead of one query per path, cached values are not read again
      *
-     * @param path The path to get
+     * @param paths The paths to get
      *
-     * @return The value being stored
+     * @return The values being stored by path
      *
-     * @since 3.5.0
+     * @since 5.1.0
      */
-    public @Nullable Object fastGet(@NotNull String path) {
+    @Override
+    public @NotNull Map<String, Object> getAll(@NotNull Collection<String> paths) {
         if (this.closed) {
             throw new ConfigClosedException();
         }
 
-        if (this.connection == null) {
-            return null;
+        Map<String, Object> values = new LinkedHashMap<>(paths.size() * 2);
+        for (String path : paths) {
+            values.put(path, null);
         }
 
-        try (ResultSet result = MySQLHelper.query(this.connection, "SELECT type,value FROM " + this.table + " WHERE path=?", path)) {
-            Object parsedValue = null;
+        if (values.isEmpty()) {
+            return values;
+        }
 
-            while (result.next()) {
-                String type = result.getString("type").toUpperCase();
-                ParsedPrimitive.PrimitiveType primitiveType = ParsedPrimitive.PrimitiveType.valueOf(type);
-                String value = result.getString("value");
-
-                switch (primitiveType) {
-                    case STRING: {
-                        parsedValue = value;
-                        break;
-                    }
-                    case BYTE: {
-                        parsedValue = Byte.parseByte(value);
-                        break;
-                    }
-                    case CHAR: {
-                        parsedValue = (char) Short.parseShort(value);
-                        break;
-                    }
-                    case SHORT: {
-                        parsedValue = Short.parseShort(value);
-                        break;
-                    }
-                    case INTEGER: {
-                        parsedValue = Integer.parseInt(value);
-                        break;
-                    }
-                    case LONG: {
-                        parsedValue = Long.parseLong(value);
-                        break;
-                    }
-                    case BIGINTEGER: {
-                        parsedValue = BigIntegerParser.parseWithFastParser(value);
-                        break;
-                    }
-                    case FLOAT: {
-                        parsedValue = Float.parseFloat(value);
-                        break;
-                    }
-                    case DOUBLE: {
-                        parsedValue = Double.parseDouble(value);
-                        break;
-                    }
-                    case BIGDECIMAL: {
-                        parsedValue = BigDecimalParser.parse(value);
-                        break;
-                    }
-                    case BOOLEAN: {
-                        parsedValue = Boolean.parseBoolean(value);
-                        break;
-                    }
-                    case NULL: {
-                        parsedValue = null;
-                        break;
-                    }
-                    default: {
-                        throw new RuntimeException();
+        NearCache nearCache = this.nearCache;
+        long stamp = nearCache != null ? nearCache.getStamp() : 0;
+        List<String> keys = new ArrayList<>(values.size());
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            Object known = this.writeBehind != null ? this.writeBehind.get(entry.getKey()) : WriteBehindQueue.MISSING;
+            if (known == WriteBehindQueue.MISSING && nearCache != null) {
+                known = nearCache.get(foldKey(entry.getKey()));
+                if (known == NearCache.MISSING) {
+                    known = WriteBehindQueue.MISSING;
+                }
+            }
+
+            if (known != WriteBehindQueue.MISSING) {
+                entry.setValue(known);
+            } else {
+                keys.add(entry.getKey());
+            }
+        }
+
+        if (this.keys != null) {
+            keys.removeIf(key -> !this.mayExist(key));
+        }
+
+        if (keys.isEmpty()) {
+            return values;
+        }
+
+        return this.withConnection(connection -> {
+            Map<String, List<String>> requested = new HashMap<>(keys.size() * 2);
+            for (String key : keys) {
+                requested.computeIfAbsent(foldKey(key), folded -> new ArrayList<>(1)).add(key);
+            }
+
+            for (int start = 0; start < keys.size(); start += MySQLHelper.MAX_PARAMETERS) {
+                List<String> chunk = keys.subList(start, Math.min(start + MySQLHelper.MAX_PARAMETERS, keys.size()));
+
+                try (ResultSet result = MySQLHelper.query(connection, "SELECT path,type,value FROM " + this.table + " WHERE path IN " + MySQLHelper.placeholders(1, chunk.size()), chunk.toArray(new String[0]))) {
+                    while (result.next()) {
+                        List<String> matches = requested.get(foldKey(result.getString("path")));
+                        if (matches == null) {
+                            continue;
+                        }
+
+                        Object value = parseValue(result.getString("type"), result.getString("value"));
+                        for (String key : matches) {
+                            values.put(key, value);
+                        }
                     }
                 }
-            }
+            }
+
+            if (nearCache != null) {
+                for (String key : keys) {
+                    nearCache.load(foldKey(key), values.get(key), stamp);
+                }
+            }
+
+            return values;
+        });
+    }
+
+    /**
+     * Get many paths being stored
+     * <p>
+     * The values are read with one {@code WHERE path IN (...)} query per {@link MySQLHelper#MAX_PARAMETERS} paths instead of one query per path
+     *
+     * @param paths The paths to get
+     *
+     * @return The values being stored in the same order as the paths
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public @Nullable Object @NotNull [] getAll(@NotNull ConfigPath @NotNull ... paths) {
+        List<String> keys = new ArrayList<>(paths.length);
+        for (ConfigPath path : paths) {
+            keys.add(path.toString());
+        }
+
+        Map<String, Object> found = this.getAll(keys);
+
+        Object[] values = new Object[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            values[i] = found.get(keys.get(i));
+        }
+        return values;
+    }
+
+    /**
+     * Get a path being stored
+     * <p>
+     * This method <b>will not</b> check if the connection is open before attempting to query the database
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored
+     *
+     * @since 3.5.0
+     */
+    public @Nullable Object fastGet(@NotNull String path) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.writeBehind != null) {
+            Object queued = this.writeBehind.get(path);
+            if (queued != WriteBehindQueue.MISSING) {
+                return queued;
+            }
+        }
+
+        if (!this.mayExist(path)) {
+            return null;
+        }
+
+        Connection connection = this.borrowFast();
+        if (connection == null) {
+            return null;
+        }
+
+        try {
+            return this.readValue(connection, path);
+        } catch (SQLException e) {
+            throw new MySQLException(e);
+        } finally {
+            this.release(connection);
+        }
+    }
+
+    /**
+     * Read a path from the database on a connection that is already held
+     * <p>
+     * Setters use this to read the old value so they never borrow a second connection from the data source while holding one
+     *
+     * @param connection The connection to query on
+     * @param path       The path to read
+     *
+     * @return The value stored in the database
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected @Nullable Object readValue(@NotNull Connection connection, @NotNull String path) throws SQLException {
+        if (!this.mayExist(path)) {
+            return null;
+        }
+
+        try (QueryResult query = this.query(connection, "SELECT type,value FROM " + this.table + " WHERE path=?", path)) {
+            ResultSet result = query.getResultSet();
+            Object parsedValue = null;
+
+            while (result.next()) {
+                parsedValue = parseValue(result.getString("type"), result.getString("value"));
+            }
+
+            return parsedValue;
+        }
+    }
+
+    /**
+     * Get a path being stored
+     * <p>
+     * This method <b>will not</b> check if the connection is open before attempting to query the database
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object fastGet(@NotNull ConfigPath path) {
+        return this.fastGet(path.toString());
+    }
+
+    /**
+     * Parse a value stored in the database
+     *
+     * @param type  The name of the type of the value
+     * @param value The value as a String
+     *
+     * @return The parsed value
+     *
+     * @since 5.1.0
+     */
+    protected static @Nullable Object parseValue(@NotNull String type, @Nullable String value) {
+        ParsedPrimitive.PrimitiveType primitiveType = ParsedPrimitive.PrimitiveType.valueOf(type.toUpperCase());
+
+        switch (primitiveType) {
+            case STRING: {
+                return value;
+            }
+            case BYTE: {
+                return Byte.parseByte(value);
+            }
+            case CHAR: {
+                return (char) Short.parseShort(value);
+            }
+            case SHORT: {
+                return Short.parseShort(value);
+            }
+            case INTEGER: {
+                return Integer.parseInt(value);
+            }
+            case LONG: {
+                return Long.parseLong(value);
+            }
+            case BIGINTEGER: {
+                return BigIntegerParser.parseWithFastParser(value);
+            }
+            case FLOAT: {
+                return Float.parseFloat(value);
+            }
+            case DOUBLE: {
+                return Double.parseDouble(value);
+            }
+            case BIGDECIMAL: {
+                return BigDecimalParser.parse(value);
+            }
+            case BOOLEAN: {
+                return Boolean.parseBoolean(value);
+            }
+            case NULL: {
+                return null;
+            }
+            default: {
+                throw new RuntimeException();
+            }
+        }
+    }
+
+    /**
+     * Get a path from the near cache, or from the server if it is not cached
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored as a String or null
+     *
+     * @since 3.5.0
+     * @deprecated Use {@link #peekCached(String)} to only read the near cache, or {@link #get(String)}
+     */
+    @Override
+    @Deprecated
+    public @Nullable String getCached(@NotNull String path) {
+        NearCache nearCache = this.nearCache;
+        Object value = nearCache != null ? nearCache.get(foldKey(path)) : NearCache.MISSING;
+        if (value == NearCache.MISSING) {
+            value = this.get(path);
+        }
+
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Get a path from the near cache, or from the server if it is not cached
+     *
+     * @param path The path to get
+     *
+     * @return The value being stored as a String or null
+     *
+     * @since 5.1.0
+     * @deprecated Use {@link #peekCached(ConfigPath)} to only read the near cache, or {@link #get(ConfigPath)}
+     */
+    @Override
+    @Deprecated
+    public @Nullable String getCached(@NotNull ConfigPath path) {
+        return this.getCached(path.toString());
+    }
+
+    /**
+     * Get a path from the near cache without querying the server
+     *
+     * @param path The path to get
+     *
+     * @return The cached value or null if it is not cached or the near cache is not enabled
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object peekCached(@NotNull String path) {
+        NearCache nearCache = this.nearCache;
+        if (nearCache == null) {
+            return null;
+        }
+
+        Object cached = nearCache.get(foldKey(path));
+        return cached != NearCache.MISSING ? cached : null;
+    }
+
+    /**
+     * Get a path from the near cache without querying the server
+     *
+     * @param path The path to get
+     *
+     * @return The cached value or null if it is not cached or the near cache is not enabled
+     *
+     * @since 5.1.0
+     */
+    public @Nullable Object peekCached(@NotNull ConfigPath path) {
+        return this.peekCached(path.toString());
+    }
+
+    /**
+     * Get the near cache
+     *
+     * @return The near cache or null if it is not enabled
+     *
+     * @since 5.1.0
+     */
+    public @Nullable NearCache getNearCache() {
+        return this.nearCache;
+    }
+
+    /**
+     * Write a value that was set through to the near cache and key set and invalidate the values bound to it
+     *
+     * @param path  The path that was set
+     * @param value The value that was set
+     *
+     * @since 5.1.0
+     */
+    protected void updateCached(@NotNull String path, @Nullable Object value) {
+        String key = foldKey(path);
+
+        if (this.nearCache != null) {
+            this.nearCache.put(key, value);
+        }
+
+        if (this.useKeySet) {
+            synchronized (KEYS_LOCK) {
+                Set<String> keys = this.keys;
+                if (value != null) {
+                    if (keys != null) {
+                        keys.add(key);
+                    }
+                    if (this.keysAdded != null) {
+                        this.keysAdded.add(key);
+                    }
+                } else if (keys != null) {
+                    keys.remove(key);
+                }
+            }
+        }
+
+        this.invalidateBound(ConfigPath.compile(path));
+    }
+
+    /**
+     * Set a path being stored
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 3.0.0
+     */
+    @Override
+    public void set(@NotNull String path, @Nullable Object value) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.writeBehind != null) {
+            this.setBehind(path, ParsedPrimitive.from(value));
+            return;
+        }
+
+        boolean notify = !this.listeners.isEmpty();
+        Object oldValue = this.withConnection(connection -> {
+            Object previous = notify ? this.readValue(connection, path) : null;
+
+            if (value != null) {
+                ParsedPrimitive.PrimitiveType type = ParsedPrimitive.from(value).getType();
+                this.execute(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", path, type.name(), value.toString());
+            } else {
+                this.execute(connection, "DELETE FROM " + this.table + " WHERE path=?", path);
+            }
+
+            return previous;
+        });
+
+        this.updateCached(path, value);
+
+        if (notify && !Objects.equals(oldValue, value)) {
+            this.listeners.dispatch(new ConfigChange(path, oldValue, value));
+        }
+    }
+
+    /**
+     * Set a path being stored
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void set(@NotNull ConfigPath path, @Nullable Object value) {
+        this.set(path.toString(), value);
+    }
+
+    /**
+     * Set a path being stored to an int
+     * <p>
+     * The value is bound to the statement as an int instead of being converted to a String first
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void setInt(@NotNull ConfigPath path, int value) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.writeBehind != null) {
+            this.setBehind(path.toString(), ParsedPrimitive.fromInteger(value));
+            return;
+        }
+
+        boolean notify = !this.listeners.isEmpty();
+        Object oldValue = this.withConnection(connection -> {
+            Object previous = notify ? this.readValue(connection, path.toString()) : null;
+
+            this.execute(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", statement -> {
+                statement.setString(1, path.toString());
+                statement.setString(2, "INTEGER");
+                statement.setInt(3, value);
+            });
+
+            return previous;
+        });
+
+        this.updateCached(path.toString(), value);
+
+        if (notify && !Objects.equals(oldValue, value)) {
+            this.listeners.dispatch(new ConfigChange(path.toString(), oldValue, value));
+        }
+    }
+
+    /**
+     * Set a path being stored to a long
+     * <p>
+     * The value is bound to the statement as a long instead of being converted to a String first
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void setLong(@NotNull ConfigPath path, long value) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.writeBehind != null) {
+            this.setBehind(path.toString(), ParsedPrimitive.fromLong(value));
+            return;
+        }
+
+        boolean notify = !this.listeners.isEmpty();
+        Object oldValue = this.withConnection(connection -> {
+            Object previous = notify ? this.readValue(connection, path.toString()) : null;
+
+            this.execute(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", statement -> {
+                statement.setString(1, path.toString());
+                statement.setString(2, "LONG");
+                statement.setLong(3, value);
+            });
+
+            return previous;
+        });
+
+        this.updateCached(path.toString(), value);
+
+        if (notify && !Objects.equals(oldValue, value)) {
+            this.listeners.dispatch(new ConfigChange(path.toString(), oldValue, value));
+        }
+    }
+
+    /**
+     * Set a path being stored to a double
+     * <p>
+     * The value is bound to the statement as a double instead of being converted to a String first
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void setDouble(@NotNull ConfigPath path, double value) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.writeBehind != null) {
+            this.setBehind(path.toString(), ParsedPrimitive.fromDouble(value));
+            return;
+        }
+
+        boolean notify = !this.listeners.isEmpty();
+        Object oldValue = this.withConnection(connection -> {
+            Object previous = notify ? this.readValue(connection, path.toString()) : null;
+
+            this.execute(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", statement -> {
+                statement.setString(1, path.toString());
+                statement.setString(2, "DOUBLE");
+                statement.setDouble(3, value);
+            });
+
+            return previous;
+        });
+
+        this.updateCached(path.toString(), value);
+
+        if (notify && !Objects.equals(oldValue, value)) {
+            this.listeners.dispatch(new ConfigChange(path.toString(), oldValue, value));
+        }
+    }
+
+    /**
+     * Set a path being stored to a boolean
+     * <p>
+     * The value is bound to the statement as a boolean instead of being converted to a String first
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public void setBoolean(@NotNull ConfigPath path, boolean value) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.writeBehind != null) {
+            this.setBehind(path.toString(), ParsedPrimitive.fromBoolean(value));
+            return;
+        }
+
+        boolean notify = !this.listeners.isEmpty();
+        Object oldValue = this.withConnection(connection -> {
+            Object previous = notify ? this.readValue(connection, path.toString()) : null;
+
+            this.execute(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", statement -> {
+                statement.setString(1, path.toString());
+                statement.setString(2, "BOOLEAN");
+                statement.setString(3, value ? "true" : "false");
+            });
+
+            return previous;
+        });
+
+        this.updateCached(path.toString(), value);
+
+        if (notify && !Objects.equals(oldValue, value)) {
+            this.listeners.dispatch(new ConfigChange(path.toString(), oldValue, value));
+        }
+    }
+
+    /**
+     * Set a path being stored
+     * <p>
+     * This method <b>will not</b> check if the connection is open before attempting to query the database
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 3.5.0
+     */
+    public void fastSet(@NotNull String path, @Nullable Object value) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        if (this.writeBehind != null) {
+            this.setBehind(path, ParsedPrimitive.from(value));
+            return;
+        }
+
+        boolean notify = !this.listeners.isEmpty();
+
+        Connection connection = this.borrowFast();
+        if (connection == null) {
+            return;
+        }
+
+        Object oldValue;
+        try {
+            oldValue = notify ? this.readValue(connection, path) : null;
+
+            if (value != null) {
+                ParsedPrimitive.PrimitiveType type = ParsedPrimitive.from(value).getType();
+                this.execute(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", path, type.name(), value.toString());
+            } else {
+                this.execute(connection, "DELETE FROM " + this.table + " WHERE path=?", path);
+            }
+        } catch (SQLException e) {
+            throw new MySQLException(e);
+        } finally {
+            this.release(connection);
+        }
+
+        this.updateCached(path, value);
+
+        if (notify && !Objects.equals(oldValue, value)) {
+            this.listeners.dispatch(new ConfigChange(path, oldValue, value));
+        }
+    }
+
+    /**
+     * Set a path being stored
+     * <p>
+     * This method <b>will not</b> check if the connection is open before attempting to query the database
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    public void fastSet(@NotNull ConfigPath path, @Nullable Object value) {
+        this.fastSet(path.toString(), value);
+    }
+
+    /**
+     * Apply a batch of changes to the database
+     * <p>
+     * All the values are written by one multi-row REPLACE and one DELETE statement (per {@link MySQLHelper#MAX_PARAMETERS} parameters) inside a single transaction, so other connections see either none or all of the batch
+     *
+     * @param batch The changes to apply
+     *
+     * @throws IOException On apply error
+     * @since 5.1.0
+     */
+    @Override
+    protected void applyBatch(@NotNull ConfigBatch batch) throws IOException {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        Map<String, ParsedPrimitive> values = new LinkedHashMap<>(batch.getSize() * 2);
+        for (int i = 0; i < batch.getSize(); i++) {
+            String path = batch.getPath(i).toString();
+            values.remove(path);
+            values.put(path, batch.getValue(i));
+        }
+
+        if (this.writeBehind != null) {
+            this.writeBehind.flush();
+        }
+
+        boolean notify = !this.listeners.isEmpty();
+        Map<String, Object> oldValues = notify ? this.getAll(values.keySet()) : null;
+
+        this.writeValues(values);
+
+        for (Map.Entry<String, ParsedPrimitive> entry : values.entrySet()) {
+            this.updateCached(entry.getKey(), entry.getValue().get());
+        }
+
+        if (notify) {
+            for (Map.Entry<String, ParsedPrimitive> entry : values.entrySet()) {
+                Object oldValue = oldValues.get(entry.getKey());
+                Object newValue = entry.getValue().get();
+                if (!Objects.equals(oldValue, newValue)) {
+                    this.listeners.dispatch(new ConfigChange(entry.getKey(), oldValue, newValue));
+                }
+            }
+        }
+    }
+
+    /**
+     * Write values to the database
+     * <p>
+     * All the values are written by one multi-row REPLACE and one DELETE statement (per {@link MySQLHelper#MAX_PARAMETERS} parameters) inside a single transaction.
+     * On the single connection the transaction holds {@link #connectionLock} exclusively, so statements from other threads wait instead of joining it.
+     *
+     * @param values The values to write by path, a null primitive removes the path
+     *
+     * @throws IOException On write error
+     * @since 5.1.0
+     */
+    protected void writeValues(@NotNull Map<String, ParsedPrimitive> values) throws IOException {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        ReentrantReadWriteLock.WriteLock exclusive = this.dataSource == null ? this.connectionLock.writeLock() : null;
+        if (exclusive != null) {
+            exclusive.lock();
+        }
+
+        try {
+            this.withConnection(connection -> {
+                List<String> replaceArgs = new ArrayList<>(values.size() * 3);
+                List<String> deleteArgs = new ArrayList<>();
+                for (Map.Entry<String, ParsedPrimitive> entry : values.entrySet()) {
+                    if (!entry.getValue().isNull()) {
+                        replaceArgs.add(entry.getKey());
+                        replaceArgs.add(entry.getValue().getType().name());
+                        replaceArgs.add(entry.getValue().get().toString());
+                    } else {
+                        deleteArgs.add(entry.getKey());
+                    }
+                }
+
+                connection.setAutoCommit(false);
+
+                try {
+                    int replaceChunk = (MySQLHelper.MAX_PARAMETERS / 3) * 3;
+                    for (int start = 0; start < replaceArgs.size(); start += replaceChunk) {
+                        List<String> chunk = replaceArgs.subList(start, Math.min(start + replaceChunk, replaceArgs.size()));
+                        MySQLHelper.execute(connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES " + MySQLHelper.placeholders(chunk.size() / 3, 3) + ";", chunk);
+                    }
+                    for (int start = 0; start < deleteArgs.size(); start += MySQLHelper.MAX_PARAMETERS) {
+                        List<String> chunk = deleteArgs.subList(start, Math.min(start + MySQLHelper.MAX_PARAMETERS, deleteArgs.size()));
+                        MySQLHelper.execute(connection, "DELETE FROM " + this.table + " WHERE path IN " + MySQLHelper.placeholders(1, chunk.size()) + ";", chunk);
+                    }
+
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            });
+        } catch (MySQLException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            if (exclusive != null) {
+                exclusive.unlock();
+            }
+        }
+    }
+
+    /**
+     * Forget what was cached for values the write-behind queue dropped
+     * <p>
+     * The server still has the old value, so the near cache entry is invalidated and the path is kept in the key set in case the dropped value was a removal
+     *
+     * @param paths The paths whose values were dropped
+     *
+     * @since 5.1.0
+     */
+    protected void invalidateDropped(@NotNull List<String> paths) {
+        for (String path : paths) {
+            String key = foldKey(path);
+
+            if (this.nearCache != null) {
+                this.nearCache.invalidate(key);
+            }
+
+            if (this.useKeySet) {
+                synchronized (KEYS_LOCK) {
+                    Set<String> keys = this.keys;
+                    if (keys != null) {
+                        keys.add(key);
+                    }
+                    if (this.keysAdded != null) {
+                        this.keysAdded.add(key);
+                    }
+                }
+            }
+
+            this.invalidateBound(ConfigPath.compile(path));
+        }
+    }
+
+    /**
+     * Queue a value to be written by the write-behind queue
+     * <p>
+     * The server is not queried, listeners are given the queued or near cached old value, or null if it is not known
+     *
+     * @param path  The path to set
+     * @param value The value to set
+     *
+     * @since 5.1.0
+     */
+    protected void setBehind(@NotNull String path, @NotNull ParsedPrimitive value) {
+        assert this.writeBehind != null;
+
+        boolean notify = !this.listeners.isEmpty();
+        Object oldValue = null;
+        boolean oldKnown = false;
+        if (notify) {
+            oldValue = this.writeBehind.get(path);
+            if (oldValue == WriteBehindQueue.MISSING && this.nearCache != null) {
+                oldValue = this.nearCache.get(foldKey(path));
+                if (oldValue == NearCache.MISSING) {
+                    oldValue = WriteBehindQueue.MISSING;
+                }
+            }
+
+            oldKnown = oldValue != WriteBehindQueue.MISSING;
+            if (!oldKnown) {
+                oldValue = null;
+            }
+        }
+
+        this.writeBehind.put(path, value);
+
+        Object newValue = value.get();
+        this.updateCached(path, newValue);
+
+        if (notify && (!oldKnown || !Objects.equals(oldValue, newValue))) {
+            this.listeners.dispatch(new ConfigChange(path, oldValue, newValue));
+        }
+    }
+
+    /**
+     * Write the values queued by the write-behind queue now
+     *
+     * @throws IOException On write error, or the error from the last background write
+     * @since 5.1.0
+     */
+    public void flush() throws IOException {
+        if (this.writeBehind != null) {
+            this.writeBehind.flush();
+        }
+    }
+
+    /**
+     * Get the write-behind queue
+     *
+     * @return The write-behind queue or null if it is not enabled
+     *
+     * @since 5.1.0
+     */
+    public @Nullable WriteBehindQueue getWriteBehind() {
+        return this.writeBehind;
+    }
+
+    /**
+     * Get every value under a path
+     *
+     * @param prefix The path of the subtree
+     *
+     * @return The values under the path, keyed relative to it
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ParsedObject getSubtree(@NotNull String prefix) {
+        ParsedObject subtree = ParsedObject.create();
+
+        int start = !prefix.isEmpty() ? prefix.length() + 1 : 0;
+        for (Map.Entry<String, Object> entry : this.querySubtree(prefix).entrySet()) {
+            PathResolver.updatePrimitive(subtree, ConfigPath.compile(entry.getKey().substring(start)), ParsedPrimitive.from(entry.getValue()), true, null);
+        }
+
+        return subtree;
+    }
+
+    /**
+     * Get every value under a path
+     *
+     * @param prefix The path of the subtree
+     *
+     * @return The values under the path, keyed relative to it
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ParsedObject getSubtree(@NotNull ConfigPath prefix) {
+        return this.getSubtree(prefix.toString());
+    }
+
+    /**
+     * Delete every value under a path
+     *
+     * @param prefix The path of the subtree
+     *
+     * @since 5.1.0
+     */
+    public void deleteSubtree(@NotNull String prefix) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        try {
+            this.flush();
+        } catch (IOException e) {
+            throw new MySQLException(e);
+        }
+
+        Map<String, Object> oldValues = !this.listeners.isEmpty() ? this.querySubtree(prefix) : null;
+
+        this.withConnection(connection -> {
+            if (!prefix.isEmpty()) {
+                MySQLHelper.execute(connection, "DELETE FROM " + this.table + " WHERE path >= ? AND path < ?;", prefix + ".", prefix + "/");
+            } else {
+                MySQLHelper.execute(connection, "DELETE FROM " + this.table + ";");
+            }
+        });
+
+        if (this.nearCache != null) {
+            this.nearCache.clear();
+        }
+
+        if (this.useKeySet) {
+            synchronized (KEYS_LOCK) {
+                Set<String> keys = this.keys;
+                if (keys != null) {
+                    String folded = foldKey(prefix) + ".";
+                    keys.removeIf(key -> prefix.isEmpty() || key.startsWith(folded));
+                }
+            }
+        }
+
+        if (!prefix.isEmpty()) {
+            this.invalidateBound(ConfigPath.compile(prefix));
+        } else {
+            this.invalidateBound();
+        }
+
+        if (oldValues != null) {
+            for (Map.Entry<String, Object> entry : oldValues.entrySet()) {
+                if (entry.getValue() != null) {
+                    this.listeners.dispatch(new ConfigChange(entry.getKey(), entry.getValue(), null));
+                }
+            }
+        }
+    }
+
+    /**
+     * Delete every value under a path
+     *
+     * @param prefix The path of the subtree
+     *
+     * @since 5.1.0
+     */
+    public void deleteSubtree(@NotNull ConfigPath prefix) {
+        this.deleteSubtree(prefix.toString());
+    }
+
+    /**
+     * Query every value under a path
+     * <p>
+     * The children of {@code a.b} are the paths in the range {@code ['a.b.', 'a.b/')} since {@code /} is the character after {@code .}, so the query is a single range scan of the primary key
+     *
+     * @param prefix The path of the subtree or an empty String for every value
+     *
+     * @return The values under the path by their full path
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull Map<String, Object> querySubtree(@NotNull String prefix) {
+        if (this.closed) {
+            throw new ConfigClosedException();
+        }
+
+        try {
+            this.flush();
+        } catch (IOException e) {
+            throw new MySQLException(e);
+        }
+
+        return this.withConnection(connection -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+
+            String[] args = !prefix.isEmpty() ? new String[] { prefix + ".", prefix + "/" } : new String[0];
+            try (ResultSet result = MySQLHelper.query(connection, "SELECT path,type,value FROM " + this.table + (!prefix.isEmpty() ? " WHERE path >= ? AND path < ?" : "") + " ORDER BY path;", args)) {
+                while (result.next()) {
+                    values.put(result.getString("path"), parseValue(result.getString("type"), result.getString("value")));
+                }
+            }
+
+            return values;
+        });
+    }
+
+    /**
+     * Get if the config is loaded
+     *
+     * @return If the config is loaded
+     *
+     * @since 3.0.0
+     */
+    @Override
+    public boolean getLoaded() {
+        return true;
+    }
+
+    /**
+     * Connect to the server if the driver is not connected, failing fast while the server can not be reached
+     *
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected void ensureConnected() {
+        this.reconnect.ensureConnected();
+    }
+
+    /**
+     * Get if a path may exist on the server
+     * <p>
+     * Paths added by other clients are not known until the key set is rebuilt
+     *
+     * @param path The path to check
+     *
+     * @return False if the path is known not to exist, otherwise true
+     *
+     * @since 5.1.0
+     */
+    protected boolean mayExist(@NotNull String path) {
+        Set<String> keys = this.keys;
+        return keys == null || keys.contains(foldKey(path));
+    }
+
+    /**
+     * Get the key used for a path in the key set and near cache
+     * <p>
+     * Paths are folded when the table's collation compares them without case or accents, see {@link #foldKeys}
+     *
+     * @param path The path to get the key of
+     *
+     * @return The key of the path
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull String foldKey(@NotNull String path) {
+        return this.foldKeys ? fold(path) : path;
+    }
+
+    /**
+     * Fold a path the way a {@code utf8_general_ci} collation compares it
+     * <p>
+     * Paths that differ only in case, accents or trailing spaces are the same row on the server, so they must be the same entry in the key set and near cache
+     *
+     * @param path The path to fold
+     *
+     * @return The folded path
+     *
+     * @since 5.1.0
+     */
+    protected static @NotNull String fold(@NotNull String path) {
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == ' ') {
+            end--;
+        }
+
+        String folded = Normalizer.normalize(path.substring(0, end), Normalizer.Form.NFD);
+        StringBuilder builder = new StringBuilder(folded.length());
+        for (int i = 0; i < folded.length(); i++) {
+            char character = folded.charAt(i);
+            if (Character.getType(character) != Character.NON_SPACING_MARK) {
+                builder.append(character);
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Load the set of paths that exist on the server
+     * <p>
+     * Must be called while holding {@link #SAVELOAD_LOCK}, paths set while the query runs are added to the new set
+     *
+     * @param connection The connection to query on
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected void loadKeys(@NotNull Connection connection) throws SQLException {
+        synchronized (KEYS_LOCK) {
+            this.keysAdded = new HashSet<>();
+        }
+
+        Set<String> keys = ConcurrentHashMap.newKeySet();
+        try (ResultSet result = MySQLHelper.query(connection, "SELECT path FROM " + this.table + ";")) {
+            while (result.next()) {
+                keys.add(foldKey(result.getString("path")));
+            }
+        } catch (SQLException e) {
+            synchronized (KEYS_LOCK) {
+                this.keysAdded = null;
+                this.keys = null;
+            }
+
+            throw e;
+        }
+
+        synchronized (KEYS_LOCK) {
+            assert this.keysAdded != null;
+
+            keys.addAll(this.keysAdded);
+            this.keysAdded = null;
+            this.keys = keys;
+        }
+    }
+
+    /**
+     * Rebuild the set of paths that exist on the server
+     * <p>
+     * If the set can not be rebuilt it is dropped and every path is read from the server until the next rebuild
+     *
+     * @since 5.1.0
+     */
+    protected void refreshKeys() {
+        if (this.closed) {
+            return;
+        }
+
+        try {
+            if (this.getConnected()) {
+                this.withConnection(connection -> {
+                    synchronized (SAVELOAD_LOCK) {
+                        this.loadKeys(connection);
+                    }
+                });
+            }
+        } catch (MySQLException | CircuitOpenException e) {
+            synchronized (KEYS_LOCK) {
+                this.keys = null;
+            }
+        }
+    }
+
+    /**
+     * Execute a mysql statement, using the cached statement when the connection is the single connection
+     *
+     * @param connection The connection to execute on
+     * @param query      The base query to send
+     * @param args       Extra args to replace into the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected void execute(@NotNull Connection connection, @NotNull String query, String @NotNull ... args) throws SQLException {
+        StatementCache statements = this.statements;
+        if (statements != null && statements.getConnection() == connection) {
+            statements.execute(query, args);
+        } else {
+            MySQLHelper.execute(connection, query, args);
+        }
+    }
+
+    /**
+     * Execute a mysql statement, using the cached statement when the connection is the single connection
+     *
+     * @param connection The connection to execute on
+     * @param query      The base query to send
+     * @param binder     Binds extra args into the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected void execute(@NotNull Connection connection, @NotNull String query, @NotNull MySQLHelper.Binder binder) throws SQLException {
+        StatementCache statements = this.statements;
+        if (statements != null && statements.getConnection() == connection) {
+            statements.execute(query, binder);
+        } else {
+            MySQLHelper.execute(connection, query, binder);
+        }
+    }
+
+    /**
+     * Execute a mysql query and return the result, using the cached statement when the connection is the single connection
+     *
+     * @param connection The connection to execute on
+     * @param query      The base query to send
+     * @param args       Extra args to replace into the query
+     *
+     * @return The result of the query, which must be closed
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected @NotNull QueryResult query(@NotNull Connection connection, @NotNull String query, String @NotNull ... args) throws SQLException {
+        StatementCache statements = this.statements;
+        if (statements != null && statements.getConnection() == connection) {
+            return statements.query(query, args);
+        } else {
+            return new QueryResult(MySQLHelper.query(connection, query, args));
+        }
+    }
+
+    /**
+     * Run an operation on a connection, connecting if necessary
+     * <p>
+     * If the operation fails because the connection is broken the connection is discarded and the operation is run once more on a new connection
+     *
+     * @param operation The operation to run
+     * @param <R>       The type of the value returned by the operation
+     *
+     * @return The value returned by the operation
+     *
+     * @throws MySQLException       If the operation failed
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected <R> R withConnection(@NotNull MySQLHelper.Operation<R> operation) {
+        for (int attempt = 0; ; attempt++) {
+            Connection connection = this.borrow();
+            try {
+                return operation.run(connection);
+            } catch (SQLException e) {
+                if (attempt > 0 || !MySQLHelper.isConnectionError(e)) {
+                    throw new MySQLException(e);
+                }
 
-            return parsedValue;
-        } catch (SQLException e) {
-            throw new MySQLException(e);
+                this.discard(connection);
+            } catch (MySQLException e) {
+                if (attempt > 0 || !(e.getCause() instanceof SQLException) || !MySQLHelper.isConnectionError((SQLException) e.getCause())) {
+                    throw e;
+                }
+
+                this.discard(connection);
+            } finally {
+                this.release(connection);
+            }
         }
     }
 
-    @Override
-    public @Nullable String getCached(@NotNull String path) {
-        throw new UnsupportedOperationException();
+    /**
+     * Run an operation on a connection, connecting if necessary
+     * <p>
+     * If the operation fails because the connection is broken the connection is discarded and the operation is run once more on a new connection
+     *
+     * @param operation The operation to run
+     *
+     * @throws MySQLException       If the operation failed
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected void withConnection(@NotNull MySQLHelper.VoidOperation operation) {
+        this.withConnection(connection -> {
+            operation.run(connection);
+            return null;
+        });
     }
 
     /**
-     * Set a path being stored
+     * Discard a broken connection so the next operation reconnects
+     * <p>
+     * Connections from a data source are aborted so the data source drops them instead of lending them out again
      *
-     * @param path  The path to set
-     * @param value The value to set
+     * @param connection The broken connection
      *
-     * @since 3.0.0
+     * @since 5.1.0
      */
-    @Override
-    public void set(@NotNull String path, @Nullable Object value) {
-        if (this.closed) {
-            throw new ConfigClosedException();
+    protected void discard(@NotNull Connection connection) {
+        if (this.dataSource != null) {
+            try {
+                connection.abort(ConfigExecutors.getDefault());
+            } catch (SQLException | SecurityException ignored) {
+            }
+        } else if (connection == this.connection) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
         }
+    }
 
-        while (!this.getConnected()) {
-            this.reconnectAttempts++;
+    /**
+     * Check the connection is alive, reconnecting if it is not
+     * <p>
+     * Run every heartbeat interval so a broken connection is replaced before the next operation needs it, and so the server does not close an idle connection.
+     * If reconnecting fails the circuit opens and the {@link ReconnectManager} keeps trying in the background.
+     *
+     * @since 5.1.0
+     */
+    protected void heartbeat() {
+        Connection connection = this.connection;
+        if (this.closed || this.dataSource != null || connection == null) {
+            return;
+        }
 
-            try {
-                this.connect();
-            } catch (IOException e) {
-                try {
-                    Thread.sleep((int) (Math.pow(2, this.reconnectAttempts) * 1000));
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                }
+        boolean valid;
+        try {
+            valid = connection.isValid(1);
+        } catch (SQLException e) {
+            valid = false;
+        }
 
-                if (this.reconnectAttempts > 5) {
-                    throw new MaximumReconnectsException(e);
-                }
-            }
+        if (!valid) {
+            this.discard(connection);
 
-            if (this.reconnectAttempts > 5) {
-                throw new MaximumReconnectsException();
+            try {
+                this.reconnect.ensureConnected();
+            } catch (RuntimeException ignored) {
             }
         }
+    }
 
-        assert this.connection != null;
+    /**
+     * Get a connection to the server, connecting if necessary
+     * <p>
+     * The connection must be given back with {@link #release(Connection)}, the single connection is held with the read lock of {@link #connectionLock} until then
+     *
+     * @return A connection to the server
+     *
+     * @throws CircuitOpenException If the server can not be reached, see {@link ReconnectManager}
+     * @since 5.1.0
+     */
+    protected @NotNull Connection borrow() {
+        this.ensureConnected();
 
-        try {
-            if (value != null) {
-                ParsedPrimitive.PrimitiveType type = ParsedPrimitive.from(value).getType();
-                MySQLHelper.execute(this.connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", path, type.name(), value.toString());
-            } else {
-                MySQLHelper.execute(this.connection, "DELETE FROM " + this.table + " WHERE path=?", path);
+        if (this.dataSource != null) {
+            try {
+                return this.dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new MySQLException(e);
             }
-        } catch (SQLException e) {
-            throw new MySQLException(e);
         }
+
+        this.connectionLock.readLock().lock();
+
+        Connection connection = this.connection;
+        assert connection != null;
+        return connection;
     }
 
     /**
-     * Set a path being stored
+     * Get a connection to the server without connecting first
      * <p>
-     * This method <b>will not</b> check if the connection is open before attempting to query the database
+     * The connection must be given back with {@link #release(Connection)}
      *
-     * @param path  The path to set
-     * @param value The value to set
+     * @return A connection to the server or null if the single connection is not open
      *
-     * @since 3.5.0
+     * @since 5.1.0
      */
-    public void fastSet(@NotNull String path, @Nullable Object value) {
-        if (this.closed) {
-            throw new ConfigClosedException();
+    protected @Nullable Connection borrowFast() {
+        if (this.dataSource != null) {
+            return this.borrow();
         }
 
-        if (this.connection == null) {
-            return;
-        }
+        this.connectionLock.readLock().lock();
 
-        try {
-            if (value != null) {
-                ParsedPrimitive.PrimitiveType type = ParsedPrimitive.from(value).getType();
-                MySQLHelper.execute(this.connection, "REPLACE INTO " + this.table + " (path, type, value) VALUES (?, ?, ?);", path, type.name(), value.toString());
-            } else {
-                MySQLHelper.execute(this.connection, "DELETE FROM " + this.table + " WHERE path=?", path);
-            }
-        } catch (SQLException e) {
-            throw new MySQLException(e);
+        Connection connection = this.connection;
+        if (connection == null) {
+            this.connectionLock.readLock().unlock();
         }
+        return connection;
     }
 
     /**
-     * Get if the config is loaded
+     * Give back a connection from {@link #borrow()} or {@link #borrowFast()}
      *
-     * @return If the config is loaded
+     * @param connection The connection to give back
      *
-     * @since 3.0.0
+     * @since 5.1.0
      */
-    @Override
-    public boolean getLoaded() {
-        return true;
+    protected void release(@NotNull Connection connection) {
+        if (this.dataSource != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                throw new MySQLException(e);
+            }
+        } else {
+            this.connectionLock.readLock().unlock();
+        }
     }
 
     /**
      * Get if the driver is connected
+     * <p>
+     * When using a data source this is if the table has been prepared.
+     * When not validating on use this is if the connection has not been closed, a broken connection is found by the next operation instead.
      *
      * @return If the driver is connected
      *
      * @since 3.5.0
      */
     public boolean getConnected() {
+        if (this.dataSource != null) {
+            return this.prepared;
+        }
+
         try {
+            if (!this.validateOnUse) {
+                return this.connection != null && !this.connection.isClosed();
+            }
+
             return this.connection != null && this.connection.isValid(1);
         } catch (SQLException e) {
             throw new MySQLException(e);
@@ -443,6 +2001,16 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
     public void connect() throws IOException {
         synchronized (SAVELOAD_LOCK) {
             try {
+                if (this.dataSource != null) {
+                    try (Connection connection = this.dataSource.getConnection()) {
+                        this.prepare(connection);
+                    }
+
+                    this.prepared = true;
+                    this.startTasks();
+                    return;
+                }
+
                 Properties properties = new Properties();
                 properties.put("characterEncoding", "utf8");
                 if (this.username != null) {
@@ -463,31 +2031,21 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
                     throw new DriverLoadException(e);
                 }
 
+                StatementCache statements = this.statements;
+                if (statements != null) {
+                    this.statements = null;
+                    statements.close();
+                }
+
                 this.connection = DriverManager.getConnection("jdbc:" + (this.useMariadb ? "mariadb:" : "mysql:") + "//" + this.address.getHostString() + ":" + this.address.getPort() + "/" + this.database, properties);
 
                 if (this.connection.isValid(3)) {
-                    this.reconnectAttempts = 0;
-
-                    MySQLHelper.execute(this.connection, "CREATE TABLE IF NOT EXISTS " + this.table + " (path varchar(256) CHARACTER SET utf8 NOT NULL, type varchar(16) CHARACTER SET utf8 NOT NULL, value varchar(4096) CHARACTER SET utf8, PRIMARY KEY (path)) CHARACTER SET utf8;");
-
-                    try (ResultSet result = MySQLHelper.query(this.connection, "DESCRIBE " + this.table + ";")) {
-                        boolean typeExists = false;
-
-                        while (result.next()) {
-                            String name = result.getString("Field");
-                            if (name.equals("type")) {
-                                typeExists = true;
-                            }
-                        }
-
-                        if (!typeExists) {
-                            MySQLHelper.execute(this.connection, "ALTER TABLE " + this.table + " ADD COLUMN type varchar(16) CHARACTER SET utf8 NOT NULL AFTER path;");
-
-                            MySQLHelper.execute(this.connection, "UPDATE " + this.table + " SET type='STRING';");
-                        }
-                    } catch (SQLException e) {
-                        throw new IOException(e);
+                    if (this.statementCacheSize > 0) {
+                        this.statements = new StatementCache(this.connection, this.statementCacheSize);
                     }
+
+                    this.prepare(this.connection);
+                    this.startTasks();
                 } else {
                     if (this.connection != null) {
                         this.connection.close();
@@ -501,8 +2059,83 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
         }
     }
 
+    /**
+     * Start the heartbeat and key set refresh tasks if they are enabled and have not been started yet
+     * <p>
+     * Called by {@link #connect()} while holding {@link #SAVELOAD_LOCK}, so a config that never connects schedules nothing
+     *
+     * @since 5.1.0
+     */
+    protected void startTasks() {
+        if (this.closed) {
+            return;
+        }
+
+        if (this.heartbeat == null && this.heartbeatInterval != null && this.dataSource == null) {
+            long interval = this.heartbeatInterval.toNanos();
+            this.heartbeat = ConfigExecutors.getScheduler().scheduleWithFixedDelay(() -> ConfigExecutors.getDefault().execute(this::heartbeat), interval, interval, TimeUnit.NANOSECONDS);
+        }
+
+        if (this.keysRefresh == null && this.useKeySet) {
+            long interval = this.keySetRefresh.toNanos();
+            this.keysRefresh = ConfigExecutors.getScheduler().scheduleWithFixedDelay(() -> ConfigExecutors.getDefault().execute(this::refreshKeys), interval, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Create or update the table if it has not been verified yet, check the collation of its paths, and load the key set
+     *
+     * @param connection The connection to prepare the table on
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected void prepare(@NotNull Connection connection) throws SQLException {
+        if (!this.schemaVerified) {
+            MySQLHelper.execute(connection, "CREATE TABLE IF NOT EXISTS " + this.table + " (path varchar(256) CHARACTER SET utf8 NOT NULL, type varchar(16) CHARACTER SET utf8 NOT NULL, value varchar(4096) CHARACTER SET utf8, PRIMARY KEY (path)) CHARACTER SET utf8;");
+
+            try (ResultSet result = MySQLHelper.query(connection, "DESCRIBE " + this.table + ";")) {
+                boolean typeExists = false;
+
+                while (result.next()) {
+                    String name = result.getString("Field");
+                    if (name.equals("type")) {
+                        typeExists = true;
+                    }
+                }
+
+                if (!typeExists) {
+                    MySQLHelper.execute(connection, "ALTER TABLE " + this.table + " ADD COLUMN type varchar(16) CHARACTER SET utf8 NOT NULL AFTER path;");
+
+                    MySQLHelper.execute(connection, "UPDATE " + this.table + " SET type='STRING';");
+                }
+            }
+
+            this.schemaVerified = true;
+        }
+
+        try (ResultSet result = MySQLHelper.query(connection, "SHOW FULL COLUMNS FROM " + this.table + " WHERE Field='path';")) {
+            String collation = result.next() ? result.getString("Collation") : null;
+
+            boolean foldKeys = collation != null && collation.toLowerCase(Locale.ROOT).matches("utf8(mb3|mb4)?_general_ci");
+            if (foldKeys != this.foldKeys) {
+                this.foldKeys = foldKeys;
+
+                if (this.nearCache != null) {
+                    this.nearCache.clear();
+                }
+            }
+        }
+
+        if (this.useKeySet) {
+            this.loadKeys(connection);
+        }
+    }
+
     /**
      * Load the config
+     * <p>
+     * Values are always read from the server so this only drops the cached values of bound handles
      *
      * @param save Weather to save the config after loaded (To update the template)
      *
@@ -511,6 +2144,11 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
      */
     @Override
     public void load(boolean save) throws IOException {
+        if (this.nearCache != null) {
+            this.nearCache.clear();
+        }
+
+        this.invalidateBound();
     }
 
     /**
@@ -521,6 +2159,7 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
      */
     @Override
     public void save() throws IOException {
+        this.flush();
     }
 
     /**
@@ -535,17 +2174,54 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
             throw new ConfigClosedException();
         }
 
-        this.closed = true;
-
         try {
-            if (this.connection != null) {
-                this.connection.close();
+            if (this.writeBehind != null) {
+                try {
+                    this.writeBehind.flush();
+                } finally {
+                    this.writeBehind.close();
+                }
+            }
+        } finally {
+            synchronized (SAVELOAD_LOCK) {
+                this.closed = true;
+
+                if (this.heartbeat != null) {
+                    this.heartbeat.cancel(false);
+                }
+                if (this.keysRefresh != null) {
+                    this.keysRefresh.cancel(false);
+                }
+            }
+            this.reconnect.close();
+
+            StatementCache statements = this.statements;
+            if (statements != null) {
+                this.statements = null;
+                statements.close();
+            }
+
+            try {
+                if (this.connection != null) {
+                    this.connection.close();
+                }
+            } catch (SQLException e) {
+                throw new IOException(e);
             }
-        } catch (SQLException e) {
-            throw new IOException(e);
         }
     }
 
+    /**
+     * Get the manager of reconnects, to check the state of the circuit breaker or listen to its changes
+     *
+     * @return The manager of reconnects
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ReconnectManager getReconnectManager() {
+        return this.reconnect;
+    }
+
     /**
      * Get if the config is closed
      *
@@ -559,8 +2235,10 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
 
     /**
      * A builder class for creating new {@link UnstructuredMySQLConfig}s
+     * <p>
+     * The heartbeat, key set refresh and write-behind tasks are started when the config connects or is first written, so a built config must be closed with {@link UnstructuredMySQLConfig#close()} once it is no longer used
      *
-     * @version 5.0.0
+     * @version 5.1.0
      * @since 4.0.0
      */
     public static class Builder {
@@ -581,43 +2259,160 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
         /**
          * The database on the server
          *
-         * @since 4.0.0
+         * @since 4.0.0
+         */
+        protected @NotNull String database;
+
+        /**
+         * The table of the database
+         *
+         * @since 4.0.0
+         */
+        protected @NotNull String table;
+
+        /**
+         * The username to the server
+         * <p>
+         * Default is null
+         *
+         * @since 4.0.0
+         */
+        protected @Nullable String username = null;
+
+        /**
+         * The password to the server
+         * <p>
+         * Default is null
+         *
+         * @since 4.0.0
+         */
+        protected @Nullable String password = null;
+
+        /**
+         * Weather to use the MariaDB driver
+         * <p>
+         * Default is false
+         *
+         * @since 4.0.0
+         */
+        protected boolean useMariadb = false;
+
+        /**
+         * How long values are cached for or null to not cache values
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration nearCacheTtl = null;
+
+        /**
+         * The maximum number of values cached
+         * <p>
+         * Default is 1024
+         *
+         * @since 5.1.0
+         */
+        protected int nearCacheSize = 1024;
+
+        /**
+         * Weather to keep the set of paths that exist on the server
+         * <p>
+         * Default is false
+         *
+         * @since 5.1.0
+         */
+        protected boolean useKeySet = false;
+
+        /**
+         * How often the set of paths is rebuilt
+         * <p>
+         * Default is 5 minutes
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull Duration keySetRefresh = Duration.ofMinutes(5);
+
+        /**
+         * How often queued values are written or null to write values immediately
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable Duration writeBehindInterval = null;
+
+        /**
+         * The maximum number of queued values
+         * <p>
+         * Default is 10000
+         *
+         * @since 5.1.0
+         */
+        protected int writeBehindSize = 10000;
+
+        /**
+         * What to do when a value is set while the queue is full
+         * <p>
+         * Default is {@link WriteBehindQueue.OverflowPolicy#BLOCK}
+         *
+         * @since 5.1.0
+         */
+        protected @NotNull WriteBehindQueue.OverflowPolicy writeBehindPolicy = WriteBehindQueue.OverflowPolicy.BLOCK;
+
+        /**
+         * The data source to borrow connections from or null to use a single connection
+         * <p>
+         * Default is null
+         *
+         * @since 5.1.0
+         */
+        protected @Nullable DataSource dataSource = null;
+
+        /**
+         * The maximum number of prepared statements cached on the connection or 0 to not cache statements
+         * <p>
+         * Default is 32
+         *
+         * @since 5.1.0
          */
-        protected @NotNull String database;
+        protected int statementCacheSize = 32;
 
         /**
-         * The table of the database
+         * If the connection is validated with a ping before every operation
+         * <p>
+         * Default is true
          *
-         * @since 4.0.0
+         * @since 5.1.0
          */
-        protected @NotNull String table;
+        protected boolean validateOnUse = true;
 
         /**
-         * The username to the server
+         * How often the connection is checked in the background or null to not check it
          * <p>
          * Default is null
          *
-         * @since 4.0.0
+         * @since 5.1.0
          */
-        protected @Nullable String username = null;
+        protected @Nullable Duration heartbeatInterval = null;
 
         /**
-         * The password to the server
+         * The delay before the first background reconnect, doubled after every failure
          * <p>
-         * Default is null
+         * Default is 1s
          *
-         * @since 4.0.0
+         * @since 5.1.0
          */
-        protected @Nullable String password = null;
+        protected @NotNull Duration reconnectDelay = Duration.ofSeconds(1);
 
         /**
-         * Weather to use the MariaDB driver
+         * The maximum delay between background reconnects
          * <p>
-         * Default is false
+         * Default is 30s
          *
-         * @since 4.0.0
+         * @since 5.1.0
          */
-        protected boolean useMariadb = false;
+        protected @NotNull Duration maxReconnectDelay = Duration.ofSeconds(30);
 
         /**
          * Create an {@link UnstructuredMySQLConfig} builder
@@ -903,6 +2698,404 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
             return this;
         }
 
+        /**
+         * Get how long values are cached for
+         * <p>
+         * Default is null
+         *
+         * @return How long values are cached for or null to not cache values
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getNearCacheTtl() {
+            return this.nearCacheTtl;
+        }
+
+        /**
+         * Set how long values are cached for
+         * <p>
+         * Values set through this config are written to the cache, values changed by other clients are seen once their cached value expires
+         * <p>
+         * Default is null
+         *
+         * @param nearCacheTtl How long values are cached for or null to not cache values
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setNearCacheTtl(@Nullable Duration nearCacheTtl) {
+            this.nearCacheTtl = nearCacheTtl;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of values cached
+         * <p>
+         * Default is 1024
+         *
+         * @return The maximum number of values cached
+         *
+         * @since 5.1.0
+         */
+        public int getNearCacheSize() {
+            return this.nearCacheSize;
+        }
+
+        /**
+         * Set the maximum number of values cached, the least recently used value is evicted when the cache is full
+         * <p>
+         * Default is 1024
+         *
+         * @param nearCacheSize The maximum number of values cached
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setNearCacheSize(int nearCacheSize) {
+            this.nearCacheSize = nearCacheSize;
+            return this;
+        }
+
+        /**
+         * Get weather to keep the set of paths that exist on the server
+         * <p>
+         * Default is false
+         *
+         * @return Weather to keep the set of paths that exist on the server
+         *
+         * @since 5.1.0
+         */
+        public boolean getUseKeySet() {
+            return this.useKeySet;
+        }
+
+        /**
+         * Set weather to keep the set of paths that exist on the server
+         * <p>
+         * Reads of paths that are not in the set return null without querying the server.
+         * The set is loaded when connecting, updated when values are set through this config and rebuilt every {@link #getKeySetRefresh()} to pick up paths added by other clients.
+         * <p>
+         * Default is false
+         *
+         * @param useKeySet Weather to keep the set of paths that exist on the server
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setUseKeySet(boolean useKeySet) {
+            this.useKeySet = useKeySet;
+            return this;
+        }
+
+        /**
+         * Get how often the set of paths is rebuilt
+         * <p>
+         * Default is 5 minutes
+         *
+         * @return How often the set of paths is rebuilt
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getKeySetRefresh() {
+            return this.keySetRefresh;
+        }
+
+        /**
+         * Set how often the set of paths is rebuilt
+         * <p>
+         * Default is 5 minutes
+         *
+         * @param keySetRefresh How often the set of paths is rebuilt
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setKeySetRefresh(@NotNull Duration keySetRefresh) {
+            this.keySetRefresh = keySetRefresh;
+            return this;
+        }
+
+        /**
+         * Get how often queued values are written
+         * <p>
+         * Default is null
+         *
+         * @return How often queued values are written or null to write values immediately
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getWriteBehindInterval() {
+            return this.writeBehindInterval;
+        }
+
+        /**
+         * Set how often queued values are written
+         * <p>
+         * When set, sets only queue the latest value of each path and return immediately.
+         * Queued values are written together every interval, once half of the maximum size is queued, or when the config is saved, flushed or closed.
+         * <p>
+         * Default is null
+         *
+         * @param writeBehindInterval How often queued values are written or null to write values immediately
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setWriteBehindInterval(@Nullable Duration writeBehindInterval) {
+            this.writeBehindInterval = writeBehindInterval;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of queued values
+         * <p>
+         * Default is 10000
+         *
+         * @return The maximum number of queued values
+         *
+         * @since 5.1.0
+         */
+        public int getWriteBehindSize() {
+            return this.writeBehindSize;
+        }
+
+        /**
+         * Set the maximum number of queued values
+         * <p>
+         * Default is 10000
+         *
+         * @param writeBehindSize The maximum number of queued values
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setWriteBehindSize(int writeBehindSize) {
+            this.writeBehindSize = writeBehindSize;
+            return this;
+        }
+
+        /**
+         * Get what to do when a value is set while the queue is full
+         * <p>
+         * Default is {@link WriteBehindQueue.OverflowPolicy#BLOCK}
+         *
+         * @return What to do when a value is set while the queue is full
+         *
+         * @since 5.1.0
+         */
+        public @NotNull WriteBehindQueue.OverflowPolicy getWriteBehindPolicy() {
+            return this.writeBehindPolicy;
+        }
+
+        /**
+         * Set what to do when a value is set while the queue is full
+         * <p>
+         * Default is {@link WriteBehindQueue.OverflowPolicy#BLOCK}
+         *
+         * @param writeBehindPolicy What to do when a value is set while the queue is full
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setWriteBehindPolicy(@NotNull WriteBehindQueue.OverflowPolicy writeBehindPolicy) {
+            this.writeBehindPolicy = writeBehindPolicy;
+            return this;
+        }
+
+        /**
+         * Get the data source to borrow connections from
+         * <p>
+         * Default is null
+         *
+         * @return The data source to borrow connections from or null to use a single connection
+         *
+         * @since 5.1.0
+         */
+        public @Nullable DataSource getDataSource() {
+            return this.dataSource;
+        }
+
+        /**
+         * Set the data source to borrow connections from
+         * <p>
+         * When set a connection is borrowed for every operation instead of keeping a single connection open, so many configs can share a {@link MySQLConnectionPool} or any other pool.
+         * The address, database, username, password and driver of this builder are not used to connect, and the data source is not closed when the config is.
+         * <p>
+         * Default is null
+         *
+         * @param dataSource The data source to borrow connections from or null to use a single connection
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setDataSource(@Nullable DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        /**
+         * Get the maximum number of prepared statements cached on the connection
+         * <p>
+         * Default is 32
+         *
+         * @return The maximum number of prepared statements cached on the connection or 0 to not cache statements
+         *
+         * @since 5.1.0
+         */
+        public int getStatementCacheSize() {
+            return this.statementCacheSize;
+        }
+
+        /**
+         * Set the maximum number of prepared statements cached on the connection
+         * <p>
+         * Statements are only cached on the single connection, connections from a data source should be cached by the data source or driver.
+         * <p>
+         * Default is 32
+         *
+         * @param statementCacheSize The maximum number of prepared statements cached on the connection or 0 to not cache statements
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setStatementCacheSize(int statementCacheSize) {
+            this.statementCacheSize = statementCacheSize;
+            return this;
+        }
+
+        /**
+         * Get if the connection is validated with a ping before every operation
+         * <p>
+         * Default is true
+         *
+         * @return If the connection is validated with a ping before every operation
+         *
+         * @since 5.1.0
+         */
+        public boolean getValidateOnUse() {
+            return this.validateOnUse;
+        }
+
+        /**
+         * Set if the connection is validated with a ping before every operation
+         * <p>
+         * When false the connection is trusted until an operation fails because it is broken, then it is reconnected and the operation is run once more.
+         * This saves a round trip on every operation.
+         * <p>
+         * Default is true
+         *
+         * @param validateOnUse If the connection is validated with a ping before every operation
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setValidateOnUse(boolean validateOnUse) {
+            this.validateOnUse = validateOnUse;
+            return this;
+        }
+
+        /**
+         * Get how often the connection is checked in the background
+         * <p>
+         * Default is null
+         *
+         * @return How often the connection is checked in the background or null to not check it
+         *
+         * @since 5.1.0
+         */
+        public @Nullable Duration getHeartbeatInterval() {
+            return this.heartbeatInterval;
+        }
+
+        /**
+         * Set how often the connection is checked in the background
+         * <p>
+         * A broken connection is reconnected before the next operation needs it, and the check keeps the server from closing an idle connection.
+         * Not used with a data source.
+         * <p>
+         * Default is null
+         *
+         * @param heartbeatInterval How often the connection is checked in the background or null to not check it
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setHeartbeatInterval(@Nullable Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+            return this;
+        }
+
+        /**
+         * Get the delay before the first background reconnect
+         * <p>
+         * Default is 1s
+         *
+         * @return The delay before the first background reconnect
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getReconnectDelay() {
+            return this.reconnectDelay;
+        }
+
+        /**
+         * Set the delay before the first background reconnect
+         * <p>
+         * The delay is doubled after every failed reconnect up to the maximum delay, and a random part of it is skipped so many configs do not reconnect at once.
+         * <p>
+         * Default is 1s
+         *
+         * @param reconnectDelay The delay before the first background reconnect
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setReconnectDelay(@NotNull Duration reconnectDelay) {
+            this.reconnectDelay = reconnectDelay;
+            return this;
+        }
+
+        /**
+         * Get the maximum delay between background reconnects
+         * <p>
+         * Default is 30s
+         *
+         * @return The maximum delay between background reconnects
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Duration getMaxReconnectDelay() {
+            return this.maxReconnectDelay;
+        }
+
+        /**
+         * Set the maximum delay between background reconnects
+         * <p>
+         * Default is 30s
+         *
+         * @param maxReconnectDelay The maximum delay between background reconnects
+         *
+         * @return Self for chaining
+         *
+         * @since 5.1.0
+         */
+        public @NotNull Builder setMaxReconnectDelay(@NotNull Duration maxReconnectDelay) {
+            this.maxReconnectDelay = maxReconnectDelay;
+            return this;
+        }
+
         /**
          * Creating a new {@link io.github.kale_ko.ejcl.mysql.UnstructuredMySQLConfig}
          *
@@ -911,7 +3104,7 @@ public class UnstructuredMySQLConfig extends UnstructuredConfig {
          * @since 4.0.0
          */
         public @NotNull UnstructuredMySQLConfig build() {
-            return new UnstructuredMySQLConfig(this.address, this.database, this.table, this.username, this.password, this.useMariadb, this.processor);
+            return new UnstructuredMySQLConfig(this.address, this.database, this.table, this.username, this.password, this.useMariadb, this.processor, this.nearCacheTtl, this.nearCacheSize, this.useKeySet, this.keySetRefresh, this.writeBehindInterval, this.writeBehindSize, this.writeBehindPolicy, this.dataSource, this.statementCacheSize, this.validateOnUse, this.heartbeatInterval, this.reconnectDelay, this.maxReconnectDelay);
         }
     }
 }
\ No newline at end of file
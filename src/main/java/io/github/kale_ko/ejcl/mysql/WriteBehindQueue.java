@@ -0,0 +1,493 @@
+package io.github.kale_ko.ejcl.mysql;
+
+import io.github.kale_ko.bjsl.elements.ParsedPrimitive;
+import io.github.kale_ko.ejcl.exception.mysql.WriteBehindFullException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Buffers values so many sets can be written together
+ * <p>
+ * Only the latest value of each path is kept. The queued values are written every interval, or as soon as half of the maximum size is queued, by a single call to the writer.
+ * An error from a background write is thrown by the next {@link #flush()} and the values that were not set again are queued to be written again, ahead of the values queued since.
+ * Values dropped because the queue is full, including values queued again after an error, are reported to the {@link DropListener}.
+ * The interval task is started when the first value is queued and stopped by {@link #close()}.
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class WriteBehindQueue {
+    /**
+     * Returned by {@link #get(String)} when a path is not queued
+     *
+     * @since 5.1.0
+     */
+    public static final @NotNull Object MISSING = new Object();
+
+    /**
+     * What to do when a value is queued while the queue is full
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    public enum OverflowPolicy {
+        /**
+         * Wait until the queue has been written
+         *
+         * @since 5.1.0
+         */
+        BLOCK,
+
+        /**
+         * Drop the oldest queued value
+         *
+         * @since 5.1.0
+         */
+        DROP_OLDEST,
+
+        /**
+         * Throw a {@link WriteBehindFullException}
+         *
+         * @since 5.1.0
+         */
+        FAIL
+    }
+
+    /**
+     * Writes queued values
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    @FunctionalInterface
+    public interface Writer {
+        /**
+         * Write values
+         *
+         * @param values The values to write by path, a null primitive means the path should be removed
+         *
+         * @throws IOException On write error
+         * @since 5.1.0
+         */
+        void write(@NotNull Map<String, ParsedPrimitive> values) throws IOException;
+    }
+
+    /**
+     * Called with the paths whose values were dropped because the queue was full
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    @FunctionalInterface
+    public interface DropListener {
+        /**
+         * Called when values are dropped, never while the queue is locked
+         *
+         * @param paths The paths whose values were dropped and will not be written
+         *
+         * @since 5.1.0
+         */
+        void dropped(@NotNull List<String> paths);
+    }
+
+    /**
+     * The writer of the queued values
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Writer writer;
+
+    /**
+     * The maximum number of queued values
+     *
+     * @since 5.1.0
+     */
+    protected final int maxSize;
+
+    /**
+     * What to do when a value is queued while the queue is full
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull OverflowPolicy policy;
+
+    /**
+     * The listener of dropped values or null
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable DropListener dropListener;
+
+    /**
+     * The executor to write on
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Executor executor;
+
+    /**
+     * How often the queue is written in nanoseconds
+     *
+     * @since 5.1.0
+     */
+    protected final long interval;
+
+    /**
+     * The scheduler that starts writes every interval
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ScheduledExecutorService scheduler;
+
+    /**
+     * The task writing the queue every interval or null if it has not been started
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable ScheduledFuture<?> task = null;
+
+    /**
+     * If this queue is closed
+     *
+     * @since 5.1.0
+     */
+    protected boolean closed = false;
+
+    /**
+     * The queued values in the order their paths were first queued
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull LinkedHashMap<String, ParsedPrimitive> pending = new LinkedHashMap<>();
+
+    /**
+     * The values being written, kept readable by {@link #get(String)} until the write has committed
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull Map<String, ParsedPrimitive> writing = Collections.emptyMap();
+
+    /**
+     * The lock that orders writes
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Object FLUSH_LOCK = new Object();
+
+    /**
+     * If a write has been started because the queue reached half of its maximum size
+     *
+     * @since 5.1.0
+     */
+    protected boolean flushing = false;
+
+    /**
+     * The number of values dropped because the queue was full
+     *
+     * @since 5.1.0
+     */
+    protected long dropped = 0;
+
+    /**
+     * The error from the last background write or null
+     *
+     * @since 5.1.0
+     */
+    protected @Nullable IOException error = null;
+
+    /**
+     * Create a new WriteBehindQueue
+     *
+     * @param writer    The writer of the queued values
+     * @param interval  How often the queue is written
+     * @param maxSize   The maximum number of queued values
+     * @param policy    What to do when a value is queued while the queue is full
+     * @param executor  The executor to write on
+     * @param scheduler The scheduler that starts writes every interval
+     *
+     * @since 5.1.0
+     */
+    public WriteBehindQueue(@NotNull Writer writer, @NotNull Duration interval, int maxSize, @NotNull OverflowPolicy policy, @NotNull Executor executor, @NotNull ScheduledExecutorService scheduler) {
+        this(writer, interval, maxSize, policy, null, executor, scheduler);
+    }
+
+    /**
+     * Create a new WriteBehindQueue
+     *
+     * @param writer       The writer of the queued values
+     * @param interval     How often the queue is written
+     * @param maxSize      The maximum number of queued values
+     * @param policy       What to do when a value is queued while the queue is full
+     * @param dropListener The listener of dropped values or null
+     * @param executor     The executor to write on
+     * @param scheduler    The scheduler that starts writes every interval
+     *
+     * @since 5.1.0
+     */
+    public WriteBehindQueue(@NotNull Writer writer, @NotNull Duration interval, int maxSize, @NotNull OverflowPolicy policy, @Nullable DropListener dropListener, @NotNull Executor executor, @NotNull ScheduledExecutorService scheduler) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        this.writer = writer;
+
+        this.maxSize = maxSize;
+        this.policy = policy;
+        this.dropListener = dropListener;
+
+        this.executor = executor;
+        this.interval = interval.toNanos();
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Queue a value, replacing the queued value of the path if there is one
+     *
+     * @param path  The path of the value
+     * @param value The value or a null primitive to remove the path
+     *
+     * @throws WriteBehindFullException If the queue is full and the policy is {@link OverflowPolicy#FAIL} or the thread was interrupted while blocked
+     * @since 5.1.0
+     */
+    public void put(@NotNull String path, @NotNull ParsedPrimitive value) {
+        List<String> dropped;
+        synchronized (this) {
+            dropped = null;
+            if (!this.pending.containsKey(path)) {
+                while (this.pending.size() >= this.maxSize) {
+                    if (this.policy == OverflowPolicy.DROP_OLDEST) {
+                        dropped = this.dropOldest(this.pending.size() - this.maxSize + 1);
+                    } else if (this.policy == OverflowPolicy.BLOCK) {
+                        this.startFlush();
+
+                        try {
+                            this.wait();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new WriteBehindFullException(e);
+                        }
+                    } else {
+                        throw new WriteBehindFullException(this.pending.size());
+                    }
+                }
+            }
+
+            this.pending.put(path, value);
+
+            if (this.task == null && !this.closed) {
+                this.task = this.scheduler.scheduleWithFixedDelay(() -> this.executor.execute(this::flushQuietly), this.interval, this.interval, TimeUnit.NANOSECONDS);
+            }
+
+            if (this.pending.size() >= Math.max(this.maxSize / 2, 1)) {
+                this.startFlush();
+            }
+        }
+
+        this.reportDropped(dropped);
+    }
+
+    /**
+     * Drop the oldest queued values
+     * <p>
+     * Must be called while holding the lock of this queue
+     *
+     * @param count The number of values to drop
+     *
+     * @return The paths of the dropped values
+     *
+     * @since 5.1.0
+     */
+    protected @NotNull List<String> dropOldest(int count) {
+        List<String> dropped = new ArrayList<>(count);
+
+        Iterator<String> iterator = this.pending.keySet().iterator();
+        while (dropped.size() < count && iterator.hasNext()) {
+            dropped.add(iterator.next());
+            iterator.remove();
+        }
+
+        this.dropped += dropped.size();
+        return dropped;
+    }
+
+    /**
+     * Report dropped values to the listener
+     *
+     * @param dropped The paths of the dropped values or null if none were dropped
+     *
+     * @since 5.1.0
+     */
+    protected void reportDropped(@Nullable List<String> dropped) {
+        if (dropped != null && !dropped.isEmpty() && this.dropListener != null) {
+            this.dropListener.dropped(dropped);
+        }
+    }
+
+    /**
+     * Get a queued value or a value that is still being written
+     *
+     * @param path The path of the value
+     *
+     * @return The queued value, which may be null, or {@link #MISSING}
+     *
+     * @since 5.1.0
+     */
+    public synchronized @Nullable Object get(@NotNull String path) {
+        ParsedPrimitive value = this.pending.get(path);
+        if (value == null) {
+            value = this.writing.get(path);
+        }
+        return value != null ? value.get() : MISSING;
+    }
+
+    /**
+     * Start a background write if one has not already been started
+     *
+     * @since 5.1.0
+     */
+    protected synchronized void startFlush() {
+        if (!this.flushing) {
+            this.flushing = true;
+            this.executor.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Write the queued values now, waiting for any write that is already running
+     *
+     * @throws IOException On write error, or the error from the last background write if there were no queued values
+     * @since 5.1.0
+     */
+    public void flush() throws IOException {
+        synchronized (FLUSH_LOCK) {
+            Map<String, ParsedPrimitive> values;
+            IOException error;
+            synchronized (this) {
+                values = this.pending;
+                error = this.error;
+
+                this.pending = new LinkedHashMap<>();
+                this.writing = values;
+                this.flushing = false;
+                this.error = null;
+
+                this.notifyAll();
+            }
+
+            if (values.isEmpty()) {
+                if (error != null) {
+                    throw error;
+                }
+                return;
+            }
+
+            try {
+                this.writer.write(values);
+            } catch (IOException | RuntimeException e) {
+                this.requeue(values);
+
+                throw e;
+            } finally {
+                synchronized (this) {
+                    this.writing = Collections.emptyMap();
+                }
+            }
+        }
+    }
+
+    /**
+     * Queue values that failed to be written again, ahead of the values queued since unless they were set again
+     * <p>
+     * Under {@link OverflowPolicy#DROP_OLDEST} the oldest values are dropped until the queue fits.
+     * Under the other policies the values are kept even if the queue is over its maximum size, new values then wait or fail until it is written.
+     *
+     * @param values The values that failed to be written
+     *
+     * @since 5.1.0
+     */
+    protected void requeue(@NotNull Map<String, ParsedPrimitive> values) {
+        List<String> dropped = null;
+        synchronized (this) {
+            LinkedHashMap<String, ParsedPrimitive> pending = new LinkedHashMap<>(values.size() + this.pending.size());
+            for (Map.Entry<String, ParsedPrimitive> entry : values.entrySet()) {
+                if (!this.pending.containsKey(entry.getKey())) {
+                    pending.put(entry.getKey(), entry.getValue());
+                }
+            }
+            pending.putAll(this.pending);
+            this.pending = pending;
+
+            if (this.policy == OverflowPolicy.DROP_OLDEST && this.pending.size() > this.maxSize) {
+                dropped = this.dropOldest(this.pending.size() - this.maxSize);
+            }
+        }
+
+        this.reportDropped(dropped);
+    }
+
+    /**
+     * Write the queued values now, keeping the error to be thrown by the next {@link #flush()}
+     *
+     * @since 5.1.0
+     */
+    protected void flushQuietly() {
+        try {
+            this.flush();
+        } catch (IOException e) {
+            synchronized (this) {
+                this.error = e;
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                this.error = new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Stop writing the queue every interval, queued values are not written
+     *
+     * @since 5.1.0
+     */
+    public synchronized void close() {
+        this.closed = true;
+
+        if (this.task != null) {
+            this.task.cancel(false);
+        }
+    }
+
+    /**
+     * Get the number of queued values
+     *
+     * @return The number of queued values
+     *
+     * @since 5.1.0
+     */
+    public synchronized int getSize() {
+        return this.pending.size();
+    }
+
+    /**
+     * Get the number of values dropped because the queue was full
+     *
+     * @return The number of values dropped because the queue was full
+     *
+     * @since 5.1.0
+     */
+    public synchronized long getDropped() {
+        return this.dropped;
+    }
+}
\ No newline at end of file
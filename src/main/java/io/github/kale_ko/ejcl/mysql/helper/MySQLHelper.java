@@ -4,19 +4,141 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * A utility class for executing MySQL statements and queries
  *
- * @version 5.0.0
+ * @version 5.1.0
  * @since 3.4.0
  */
 public class MySQLHelper {
+    /**
+     * The maximum number of parameters that can be bound to a single statement
+     *
+     * @since 5.1.0
+     */
+    public static final int MAX_PARAMETERS = 65535;
+
     private MySQLHelper() {
     }
 
+    /**
+     * Create the placeholders for a number of rows
+     * <p>
+     * For example 2 rows of 3 columns creates {@code (?, ?, ?), (?, ?, ?)}
+     *
+     * @param rows    The number of rows
+     * @param columns The number of columns in each row
+     *
+     * @return The placeholders
+     *
+     * @since 5.1.0
+     */
+    public static @NotNull String placeholders(int rows, int columns) {
+        StringBuilder builder = new StringBuilder(rows * (columns * 3 + 4));
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            builder.append('(');
+            for (int j = 0; j < columns; j++) {
+                if (j > 0) {
+                    builder.append(", ");
+                }
+                builder.append('?');
+            }
+            builder.append(')');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Binds arguments to a statement with their own types
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    @FunctionalInterface
+    public interface Binder {
+        /**
+         * Bind arguments to a statement
+         *
+         * @param statement The statement to bind to
+         *
+         * @throws SQLException When an SQLException is throw by the driver
+         * @since 5.1.0
+         */
+        void bind(@NotNull PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * An operation on a connection that returns a value
+     *
+     * @param <R> The type of the value
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    @FunctionalInterface
+    public interface Operation<R> {
+        /**
+         * Run the operation
+         *
+         * @param connection The connection to run on
+         *
+         * @return The value
+         *
+         * @throws SQLException When an SQLException is throw by the driver
+         * @since 5.1.0
+         */
+        R run(@NotNull Connection connection) throws SQLException;
+    }
+
+    /**
+     * An operation on a connection that does not return a value
+     *
+     * @version 5.1.0
+     * @since 5.1.0
+     */
+    @FunctionalInterface
+    public interface VoidOperation {
+        /**
+         * Run the operation
+         *
+         * @param connection The connection to run on
+         *
+         * @throws SQLException When an SQLException is throw by the driver
+         * @since 5.1.0
+         */
+        void run(@NotNull Connection connection) throws SQLException;
+    }
+
+    /**
+     * Get if an exception means the connection is broken rather than the statement failing
+     * <p>
+     * This is true for the connection exception classes and SQL states in class {@code 08}
+     *
+     * @param exception The exception thrown by the driver
+     *
+     * @return If the connection is broken
+     *
+     * @since 5.1.0
+     */
+    public static boolean isConnectionError(@NotNull SQLException exception) {
+        if (exception instanceof SQLRecoverableException || exception instanceof SQLTransientConnectionException || exception instanceof SQLNonTransientConnectionException) {
+            return true;
+        }
+
+        String state = exception.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+
     /**
      * Execute a mysql statement
      *
@@ -57,6 +179,24 @@ public class MySQLHelper {
         }
     }
 
+    /**
+     * Execute a mysql statement
+     *
+     * @param connection The connection to execute on
+     * @param query      The base query to send
+     * @param binder     Binds extra args into the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    public static void execute(@NotNull Connection connection, @NotNull String query, @NotNull Binder binder) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            binder.bind(statement);
+
+            statement.execute();
+        }
+    }
+
     /**
      * Execute a mysql statement
      *
@@ -110,7 +250,7 @@ public class MySQLHelper {
     /**
      * Execute a mysql query and return the result
      * <p>
-     * <b>The returned {@link ResultSet} *must* be closed by you to prevent memory leaks</b>
+     * <b>The returned {@link ResultSet} *must* be closed by you to prevent memory leaks</b>, closing it also closes its statement
      *
      * @param connection The connection to execute on
      * @param query      The base query to send
@@ -123,10 +263,43 @@ public class MySQLHelper {
      */
     public static @NotNull ResultSet query(@NotNull Connection connection, @NotNull String query, String @NotNull ... args) throws SQLException {
         PreparedStatement statement = connection.prepareStatement(query);
-        for (int i = 0; i < args.length; i++) {
-            statement.setString(i + 1, args[i]);
+        try {
+            for (int i = 0; i < args.length; i++) {
+                statement.setString(i + 1, args[i]);
+            }
+
+            statement.closeOnCompletion();
+            return statement.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            statement.close();
+            throw e;
         }
+    }
 
-        return statement.executeQuery();
+    /**
+     * Execute a mysql query and return the result
+     * <p>
+     * <b>The returned {@link ResultSet} *must* be closed by you to prevent memory leaks</b>, closing it also closes its statement
+     *
+     * @param connection The connection to execute on
+     * @param query      The base query to send
+     * @param binder     Binds extra args into the query
+     *
+     * @return The result of the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    public static @NotNull ResultSet query(@NotNull Connection connection, @NotNull String query, @NotNull Binder binder) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(query);
+        try {
+            binder.bind(statement);
+
+            statement.closeOnCompletion();
+            return statement.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            statement.close();
+            throw e;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package io.github.kale_ko.ejcl.mysql.helper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The result of a query that releases its statement when closed
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class QueryResult implements AutoCloseable {
+    /**
+     * The result of the query
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull ResultSet result;
+
+    /**
+     * Releases the statement of the query or null to close it
+     *
+     * @since 5.1.0
+     */
+    protected final @Nullable Runnable release;
+
+    /**
+     * If this result is closed
+     *
+     * @since 5.1.0
+     */
+    protected boolean closed = false;
+
+    /**
+     * Create a new QueryResult that closes the statement of the result when closed
+     *
+     * @param result The result of the query
+     *
+     * @since 5.1.0
+     */
+    public QueryResult(@NotNull ResultSet result) {
+        this(result, null);
+    }
+
+    /**
+     * Create a new QueryResult
+     *
+     * @param result  The result of the query
+     * @param release Releases the statement of the query or null to close it
+     *
+     * @since 5.1.0
+     */
+    protected QueryResult(@NotNull ResultSet result, @Nullable Runnable release) {
+        this.result = result;
+        this.release = release;
+    }
+
+    /**
+     * Get the result of the query
+     *
+     * @return The result of the query
+     *
+     * @since 5.1.0
+     */
+    public @NotNull ResultSet getResultSet() {
+        return this.result;
+    }
+
+    /**
+     * Close the result and release its statement
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    @Override
+    public void close() throws SQLException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        if (this.release != null) {
+            try {
+                this.result.close();
+            } finally {
+                this.release.run();
+            }
+        } else {
+            Statement statement = this.result.getStatement();
+            try {
+                this.result.close();
+            } finally {
+                if (statement != null) {
+                    statement.close();
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,278 @@
+package io.github.kale_ko.ejcl.mysql.helper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cache of prepared statements on a single connection keyed by their query
+ * <p>
+ * A statement is taken out of the cache while it is being used so the same query can run on many threads at once, the extra statements are closed when they are given back.
+ * Once the cache is full the least recently used statement is closed.
+ * <p>
+ * The cache must be closed before or with its connection, it can not be used after the connection is replaced.
+ *
+ * @version 5.1.0
+ * @since 5.1.0
+ */
+public class StatementCache implements AutoCloseable {
+    /**
+     * The connection the statements are prepared on
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull Connection connection;
+
+    /**
+     * The maximum number of cached statements
+     *
+     * @since 5.1.0
+     */
+    protected final int maxSize;
+
+    /**
+     * The cached statements in least to most recently used order
+     *
+     * @since 5.1.0
+     */
+    protected final @NotNull LinkedHashMap<String, PreparedStatement> statements;
+
+    /**
+     * If this cache is closed
+     *
+     * @since 5.1.0
+     */
+    protected boolean closed = false;
+
+    /**
+     * Create a new StatementCache
+     *
+     * @param connection The connection to prepare statements on
+     * @param maxSize    The maximum number of cached statements
+     *
+     * @since 5.1.0
+     */
+    public StatementCache(@NotNull Connection connection, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        this.connection = connection;
+        this.maxSize = maxSize;
+
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (this.size() > StatementCache.this.maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the connection the statements are prepared on
+     *
+     * @return The connection the statements are prepared on
+     *
+     * @since 5.1.0
+     */
+    public @NotNull Connection getConnection() {
+        return this.connection;
+    }
+
+    /**
+     * Take a statement out of the cache, preparing it if it is not cached
+     *
+     * @param query The query of the statement
+     *
+     * @return The statement, which must be given back with {@link #give(String, PreparedStatement)}
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    protected @NotNull PreparedStatement take(@NotNull String query) throws SQLException {
+        synchronized (this) {
+            if (this.closed) {
+                throw new SQLException("Statement cache is closed");
+            }
+
+            PreparedStatement statement = this.statements.remove(query);
+            if (statement != null && !statement.isClosed()) {
+                return statement;
+            }
+        }
+
+        return this.connection.prepareStatement(query);
+    }
+
+    /**
+     * Give back a statement from {@link #take(String)}
+     * <p>
+     * The statement is closed instead if the cache is closed or already has a statement for the query
+     *
+     * @param query     The query of the statement
+     * @param statement The statement to give back
+     *
+     * @since 5.1.0
+     */
+    protected synchronized void give(@NotNull String query, @NotNull PreparedStatement statement) {
+        if (this.closed || this.statements.containsKey(query)) {
+            closeQuietly(statement);
+            return;
+        }
+
+        try {
+            statement.clearParameters();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+
+        this.statements.put(query, statement);
+    }
+
+    /**
+     * Execute a mysql statement
+     *
+     * @param query The base query to send
+     * @param args  Extra args to replace into the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    public void execute(@NotNull String query, String @NotNull ... args) throws SQLException {
+        this.execute(query, statement -> {
+            for (int i = 0; i < args.length; i++) {
+                statement.setString(i + 1, args[i]);
+            }
+        });
+    }
+
+    /**
+     * Execute a mysql statement
+     *
+     * @param query  The base query to send
+     * @param binder Binds extra args into the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    public void execute(@NotNull String query, @NotNull MySQLHelper.Binder binder) throws SQLException {
+        PreparedStatement statement = this.take(query);
+        try {
+            binder.bind(statement);
+
+            statement.execute();
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(statement);
+            throw e;
+        }
+
+        this.give(query, statement);
+    }
+
+    /**
+     * Execute a mysql query and return the result
+     * <p>
+     * <b>The returned {@link QueryResult} *must* be closed by you to give the statement back</b>
+     *
+     * @param query The base query to send
+     * @param args  Extra args to replace into the query
+     *
+     * @return The result of the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    public @NotNull QueryResult query(@NotNull String query, String @NotNull ... args) throws SQLException {
+        return this.query(query, statement -> {
+            for (int i = 0; i < args.length; i++) {
+                statement.setString(i + 1, args[i]);
+            }
+        });
+    }
+
+    /**
+     * Execute a mysql query and return the result
+     * <p>
+     * <b>The returned {@link QueryResult} *must* be closed by you to give the statement back</b>
+     *
+     * @param query  The base query to send
+     * @param binder Binds extra args into the query
+     *
+     * @return The result of the query
+     *
+     * @throws SQLException When an SQLException is throw by the driver
+     * @since 5.1.0
+     */
+    public @NotNull QueryResult query(@NotNull String query, @NotNull MySQLHelper.Binder binder) throws SQLException {
+        PreparedStatement statement = this.take(query);
+        try {
+            binder.bind(statement);
+
+            ResultSet result = statement.executeQuery();
+            return new QueryResult(result, () -> this.give(query, statement));
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(statement);
+            throw e;
+        }
+    }
+
+    /**
+     * Close every cached statement, statements that are taken are closed when they are given back
+     *
+     * @since 5.1.0
+     */
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+
+        for (PreparedStatement statement : this.statements.values()) {
+            closeQuietly(statement);
+        }
+        this.statements.clear();
+    }
+
+    /**
+     * Get if this cache is closed
+     *
+     * @return If this cache is closed
+     *
+     * @since 5.1.0
+     */
+    public synchronized boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Get the number of cached statements
+     *
+     * @return The number of cached statements
+     *
+     * @since 5.1.0
+     */
+    public synchronized int getSize() {
+        return this.statements.size();
+    }
+
+    /**
+     * Close a statement, ignoring any error because the connection releases it anyway
+     *
+     * @param statement The statement to close
+     *
+     * @since 5.1.0
+     */
+    protected static void closeQuietly(@NotNull PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+package io.github.kale_ko.ejcl;
+
+import io.github.kale_ko.ejcl.file.simple.StructuredSimpleFileConfig;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for the snapshots published by {@link StructuredConfig}
+ */
+public class StructuredConfigTest {
+    /**
+     * The number of loads to run
+     */
+    protected static final int LOADS = 2000;
+
+    /**
+     * The number of readers to run during the loads
+     */
+    protected static final int READERS = 4;
+
+    /**
+     * The data stored in the test configs, every field is always written with the same value
+     */
+    public static class Data {
+        /**
+         * The first copy of the generation
+         */
+        public int first = 0;
+
+        /**
+         * The second copy of the generation
+         */
+        public int second = 0;
+
+        /**
+         * The third copy of the generation
+         */
+        public int third = 0;
+    }
+
+    /**
+     * Readers running during repeated loads only ever see fully loaded instances and never go back to an older one
+     *
+     * @param directory A temporary directory for the config file
+     *
+     * @throws Exception On test error
+     */
+    @Test
+    public void readersSeeCompleteSnapshotsDuringLoads(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("config.txt");
+        write(file, 0);
+
+        StructuredConfig<Data> config = new StructuredSimpleFileConfig.Builder<>(Data.class, file).build();
+        config.load();
+
+        AtomicBoolean loading = new AtomicBoolean(true);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    int last = 0;
+                    while (loading.get()) {
+                        Data data = config.get();
+
+                        assertEquals(data.first, data.second, "Saw a partially loaded instance");
+                        assertEquals(data.first, data.third, "Saw a partially loaded instance");
+                        if (data.first < last) {
+                            throw new AssertionError("Went back from generation " + last + " to " + data.first);
+                        }
+
+                        last = data.first;
+                    }
+                } catch (Throwable e) {
+                    error.compareAndSet(null, e);
+                }
+            }, "StructuredConfigTest-Reader-" + i);
+            reader.start();
+            readers.add(reader);
+        }
+
+        try {
+            for (int generation = 1; generation <= LOADS && error.get() == null; generation++) {
+                write(file, generation);
+                config.load();
+            }
+        } finally {
+            loading.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        assertNull(error.get(), () -> "Reader failed: " + error.get());
+        assertEquals(LOADS, config.get().first);
+
+        config.close();
+    }
+
+    /**
+     * Write a generation to a config file
+     *
+     * @param file       The file to write to
+     * @param generation The generation to write
+     *
+     * @throws IOException On write error
+     */
+    protected static void write(Path file, int generation) throws IOException {
+        String data = "first=INTEGER=" + generation + "\n" + "second=INTEGER=" + generation + "\n" + "third=INTEGER=" + generation + "\n";
+        Files.write(file, data.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
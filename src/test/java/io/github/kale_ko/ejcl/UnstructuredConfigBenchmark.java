@@ -0,0 +1,103 @@
+package io.github.kale_ko.ejcl;
+
+import io.github.kale_ko.ejcl.memory.UnstructuredMemoryConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A throughput benchmark of a thread safe {@link UnstructuredConfig} read and written from 1, 8, and 64 threads
+ * <p>
+ * Run the main method from the test classpath, the first argument is the seconds to measure each run for and the second is the percent of operations that are writes
+ */
+public class UnstructuredConfigBenchmark {
+    /**
+     * The thread counts to measure
+     */
+    protected static final int[] THREADS = new int[] { 1, 8, 64 };
+
+    /**
+     * The paths read and written
+     */
+    protected static final ConfigPath[] PATHS = new ConfigPath[256];
+
+    static {
+        for (int i = 0; i < PATHS.length; i++) {
+            PATHS[i] = ConfigPath.of("group" + (i % 16) + ".value" + i);
+        }
+    }
+
+    /**
+     * Run the benchmark
+     *
+     * @param args The seconds to measure each run for and the percent of operations that are writes
+     *
+     * @throws InterruptedException If interrupted while waiting for the threads
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        int writePercent = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        UnstructuredConfig config = new UnstructuredMemoryConfig.Builder().setThreadSafe(true).build();
+        for (int i = 0; i < PATHS.length; i++) {
+            config.set(PATHS[i], i);
+        }
+
+        run(config, 8, 1, writePercent);
+
+        for (int threads : THREADS) {
+            long operations = run(config, threads, seconds, writePercent);
+            System.out.printf("%d threads: %,d ops/s (%d%% writes)%n", threads, operations / seconds, writePercent);
+        }
+    }
+
+    /**
+     * Read and write a config from many threads for a time
+     *
+     * @param config       The config to use
+     * @param threads      The number of threads to use
+     * @param seconds      The seconds to run for
+     * @param writePercent The percent of operations that are writes
+     *
+     * @return The number of operations run
+     *
+     * @throws InterruptedException If interrupted while waiting for the threads
+     */
+    protected static long run(UnstructuredConfig config, int threads, int seconds, int writePercent) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder operations = new LongAdder();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+
+                long count = 0;
+                while (running.get()) {
+                    ConfigPath path = PATHS[random.nextInt(PATHS.length)];
+                    if (random.nextInt(100) < writePercent) {
+                        config.set(path, random.nextInt());
+                    } else {
+                        config.get(path);
+                    }
+                    count++;
+                }
+
+                operations.add(count);
+            }, "UnstructuredConfigBenchmark-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        return operations.sum();
+    }
+}
\ No newline at end of file